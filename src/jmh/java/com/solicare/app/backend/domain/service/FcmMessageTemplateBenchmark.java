@@ -0,0 +1,113 @@
+package com.solicare.app.backend.domain.service;
+
+import com.google.firebase.messaging.*;
+import com.solicare.app.backend.application.enums.PushChannel;
+import com.solicare.app.backend.domain.dto.push.PushMessage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 팬아웃 한 번 (수신자 {@code recipients} 명) 의 FCM 메시지를 만드는 비용을 비교합니다. 발송 자체는 하지 않습니다.
+ *
+ * <ul>
+ *   <li>{@code perTokenMessage}: 수신자마다 Notification/AndroidConfig/WebpushConfig 를 새로 만들어
+ *       Message 를 만드는 기존 방식
+ *   <li>{@code templateMulticast}: {@link FcmMessageTemplate} 을 한 번 만들고 500 개 단위 multicast 에
+ *       토큰과 data 만 채우는 방식. sendEachForMulticast 는 multicast 를 다시 토큰마다 Message 로 펼쳐 보내므로, 그 펼치는
+ *       비용 ({@link FcmMessageTemplate#toMessage}) 까지 포함합니다.
+ * </ul>
+ *
+ * {@code ./gradlew jmh} 로 실행하고, 결과의 {@code gc.alloc.rate.norm} (연산당 할당 바이트) 을 비교합니다. 템플릿이 줄이는 것은
+ * 설정 객체를 만드는 비용뿐이며, 토큰마다 Message 를 만드는 비용은 두 방식 모두에 남습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FcmMessageTemplateBenchmark {
+    @Param({"100", "1000", "10000"})
+    private int recipients;
+
+    private PushMessage message;
+    private FcmMessageTemplate.Key key;
+    private List<String> tokens;
+
+    @Setup
+    public void setUp() {
+        message =
+                new PushMessage(
+                        PushChannel.ALERT,
+                        "[낙상 감지] 홍길동(남, 82세)",
+                        "낙상이 감지되었습니다. 시니어의 상태를 확인해 주세요.",
+                        Map.of("eventUuid", "0192f0c4-7f3a-7cc1-9a3e-5b1f2d3c4e5f"));
+        key = FcmMessageTemplate.Key.of(message);
+        tokens = new ArrayList<>(recipients);
+        for (int i = 0; i < recipients; i++) {
+            tokens.add("fcm-token-%08d:APA91b".formatted(i));
+        }
+    }
+
+    @Benchmark
+    public void perTokenMessage(Blackhole blackhole) {
+        for (String token : tokens) {
+            Message.Builder builder =
+                    Message.builder()
+                            .setToken(token)
+                            .setNotification(
+                                    Notification.builder()
+                                            .setTitle(message.title())
+                                            .setBody(message.body())
+                                            .build())
+                            .setAndroidConfig(
+                                    AndroidConfig.builder()
+                                            .setNotification(
+                                                    AndroidNotification.builder()
+                                                            .setChannelId(
+                                                                    message.channel()
+                                                                            .getChannelId())
+                                                            .setIcon(
+                                                                    message.channel()
+                                                                            .getNotificationIcon())
+                                                            .build())
+                                            .build())
+                            .setWebpushConfig(
+                                    WebpushConfig.builder()
+                                            .putHeader("TTL", "300")
+                                            .setNotification(
+                                                    WebpushNotification.builder()
+                                                            .setTitle(message.title())
+                                                            .setBody(message.body())
+                                                            .build())
+                                            .build());
+            builder.putAllData(message.data());
+            blackhole.consume(builder.build());
+        }
+    }
+
+    @Benchmark
+    public void templateMulticast(Blackhole blackhole) {
+        // FirebaseService 는 템플릿을 캐시하므로 팬아웃마다 한 번 만드는 것보다 유리하다
+        FcmMessageTemplate template = FcmMessageTemplate.of(key);
+        int batchSize = FirebaseService.MAX_MULTICAST_TOKENS;
+        for (int from = 0; from < tokens.size(); from += batchSize) {
+            List<String> chunk = tokens.subList(from, Math.min(from + batchSize, tokens.size()));
+            blackhole.consume(template.toMulticast(chunk, message.data()));
+            // sendEachForMulticast 가 내부에서 하는 토큰별 전개
+            for (String token : chunk) {
+                blackhole.consume(template.toMessage(token, message.data()));
+            }
+        }
+    }
+}
@@ -6,8 +6,13 @@ import com.solicare.app.backend.application.dto.request.SeniorRequestDTO;
 import com.solicare.app.backend.application.dto.res.CareResponseDTO;
 import com.solicare.app.backend.application.factory.ApiResponseFactory;
 import com.solicare.app.backend.domain.dto.BasicServiceResult;
+import com.solicare.app.backend.domain.dto.care.AlertImage;
 import com.solicare.app.backend.domain.dto.care.CareLinkResult;
 import com.solicare.app.backend.domain.dto.care.CareQueryResult;
+import com.solicare.app.backend.domain.enums.AlertImageVariant;
+import com.solicare.app.backend.domain.enums.MonitoredDevice;
+import com.solicare.app.backend.domain.enums.RollupResolution;
+import com.solicare.app.backend.domain.enums.StatExportFormat;
 import com.solicare.app.backend.domain.service.CareService;
 import com.solicare.app.backend.global.auth.AuthUtil;
 import com.solicare.app.backend.global.res.ApiResponse;
@@ -21,11 +26,22 @@ import jakarta.validation.Valid;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Tag(name = "Care", description = "모니터링 및 케어 관련 API")
@@ -216,6 +232,166 @@ public class CareController {
         return result.getApiResponse(apiResponseFactory);
     }
 
+    @Operation(
+            summary = "센서 데이터 일괄 등록",
+            description =
+                    "특정 시니어의 UUID로 여러 건의 센서 데이터를 한 번에 등록합니다. (최대 1000건)"
+                            + " 버퍼에 접수되면 202, 버퍼가 가득 차면 Retry-After 와 함께 429 를 반환합니다.")
+    @PostMapping("/senior/{seniorUuid}/stats/batch")
+    @PreAuthorize("hasAnyRole('SENIOR', 'ADMIN')")
+    public ResponseEntity<ApiResponse<CareResponseDTO.StatBatchAck>> addSensorStats(
+            Authentication authentication,
+            @PathVariable String seniorUuid,
+            @RequestBody @Valid CareRequestDTO.PostSensorStatBatch dto) {
+        if (AuthUtil.isDeniedToAccessSeniorBySenior(authentication, seniorUuid)) {
+            return apiResponseFactory.onFailure(
+                    ApiStatus._FORBIDDEN, "본인만 자신의 센서 데이터를 등록할 수 있습니다.");
+        }
+        BasicServiceResult<CareResponseDTO.StatBatchAck> result =
+                careService.addSensorStats(seniorUuid, dto);
+        if (result.getStatus() == ApiStatus._TOO_MANY_REQUESTS) {
+            return apiResponseFactory.withRetryAfter(
+                    result.getApiResponse(apiResponseFactory),
+                    careService.getSensorIngestRetryAfter());
+        }
+        return result.getApiResponse(apiResponseFactory);
+    }
+
+    @Operation(
+            summary = "기기 heartbeat",
+            description =
+                    "시니어의 카메라/웨어러블 기기가 주기적으로 호출합니다. 모니터링 중인 시니어의 기기 heartbeat 가 끊기면 연결"
+                            + " 끊김 알림이 생성됩니다.")
+    @PostMapping("/senior/{seniorUuid}/heartbeat")
+    @PreAuthorize("hasAnyRole('SENIOR', 'ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> recordHeartbeat(
+            Authentication authentication,
+            @PathVariable String seniorUuid,
+            @RequestParam MonitoredDevice device) {
+        if (AuthUtil.isDeniedToAccessSeniorBySenior(authentication, seniorUuid)) {
+            return apiResponseFactory.onFailure(
+                    ApiStatus._FORBIDDEN, "본인만 자신의 기기 상태를 보고할 수 있습니다.");
+        }
+        BasicServiceResult<Void> result = careService.recordHeartbeat(seniorUuid, device);
+        return result.getApiResponseWithoutPayload(apiResponseFactory);
+    }
+
+    @Operation(
+            summary = "센서 기록 조회",
+            description =
+                    "특정 시니어의 센서 기록을 최신순으로 조회합니다. (size 최대 200) 응답의 nextCursor 를 cursor 로"
+                            + " 넘기면 다음 페이지를 조회합니다.")
+    @GetMapping("/senior/{seniorUuid}/stats")
+    @PreAuthorize("hasAnyRole('MEMBER', 'SENIOR', 'ADMIN')")
+    public ResponseEntity<ApiResponse<CareResponseDTO.StatHistory>> getSensorHistory(
+            Authentication authentication,
+            @PathVariable String seniorUuid,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        if (AuthUtil.isDeniedToAccessSeniorByMemberOrSenior(
+                careService, authentication, seniorUuid)) {
+            return apiResponseFactory.onFailure(
+                    ApiStatus._FORBIDDEN, "해당 시니어의 센서 데이터를 조회할 권한이 없습니다.");
+        }
+        BasicServiceResult<CareResponseDTO.StatHistory> result =
+                careService.getSensorHistory(seniorUuid, cursor, size);
+        return result.getApiResponse(apiResponseFactory);
+    }
+
+    @Operation(
+            summary = "센서 기록 내보내기",
+            description =
+                    "특정 시니어의 [from, to) 센서 기록 전체를 NDJSON 또는 CSV 로 스트리밍합니다. gzip=true 이면 gzip 으로"
+                            + " 압축합니다.")
+    @GetMapping("/senior/{seniorUuid}/stats/export")
+    @PreAuthorize("hasAnyRole('MEMBER', 'SENIOR', 'ADMIN')")
+    public ResponseEntity<?> exportSensorStats(
+            Authentication authentication,
+            @PathVariable String seniorUuid,
+            @RequestParam(defaultValue = "NDJSON") StatExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                    LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                    LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        if (AuthUtil.isDeniedToAccessSeniorByMemberOrSenior(
+                careService, authentication, seniorUuid)) {
+            return apiResponseFactory.onFailure(
+                    ApiStatus._FORBIDDEN, "해당 시니어의 센서 데이터를 내보낼 권한이 없습니다.");
+        }
+        BasicServiceResult<Void> check = careService.checkSensorExport(seniorUuid, from, to);
+        if (!check.isSuccess()) {
+            return check.getApiResponseWithoutPayload(apiResponseFactory);
+        }
+        StreamingResponseBody body =
+                out -> careService.exportSensorStats(seniorUuid, from, to, format, gzip, out);
+        // gzip 은 Content-Encoding 으로 전송되므로 클라이언트가 풀어서 저장한다
+        String filename = "sensor-stats-" + seniorUuid + "." + format.getExtension();
+        ResponseEntity.BodyBuilder response =
+                ResponseEntity.ok()
+                        .contentType(MediaType.parseMediaType(format.getContentType()))
+                        .header(
+                                HttpHeaders.CONTENT_DISPOSITION,
+                                ContentDisposition.attachment()
+                                        .filename(filename)
+                                        .build()
+                                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @Operation(summary = "최근 센서 데이터 조회", description = "특정 시니어의 가장 최근 센서 데이터를 조회합니다.")
+    @GetMapping("/senior/{seniorUuid}/stats/latest")
+    @PreAuthorize("hasAnyRole('MEMBER', 'SENIOR', 'ADMIN')")
+    public ResponseEntity<ApiResponse<CareResponseDTO.StatDetail>> getLatestSensorStat(
+            Authentication authentication, @PathVariable String seniorUuid) {
+        if (AuthUtil.isDeniedToAccessSeniorByMemberOrSenior(
+                careService, authentication, seniorUuid)) {
+            return apiResponseFactory.onFailure(
+                    ApiStatus._FORBIDDEN, "해당 시니어의 센서 데이터를 조회할 권한이 없습니다.");
+        }
+        BasicServiceResult<CareResponseDTO.StatDetail> result =
+                careService.getLatestSensorStat(seniorUuid);
+        return result.getApiResponse(apiResponseFactory);
+    }
+
+    @Operation(
+            summary = "센서 통계 롤업 조회",
+            description =
+                    "특정 시니어의 [from, to) 구간 센서 통계를 분/시/일 단위 롤업으로 조회합니다. 단위를 생략하면 구간 길이에"
+                            + " 맞는 단위를 자동으로 고릅니다.")
+    @GetMapping("/senior/{seniorUuid}/stats/rollups")
+    @PreAuthorize("hasAnyRole('MEMBER', 'SENIOR', 'ADMIN')")
+    public ResponseEntity<ApiResponse<List<CareResponseDTO.StatRollup>>> getSensorRollups(
+            Authentication authentication,
+            @PathVariable String seniorUuid,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) RollupResolution resolution) {
+        if (AuthUtil.isDeniedToAccessSeniorByMemberOrSenior(
+                careService, authentication, seniorUuid)) {
+            return apiResponseFactory.onFailure(
+                    ApiStatus._FORBIDDEN, "해당 시니어의 센서 통계를 조회할 권한이 없습니다.");
+        }
+        BasicServiceResult<List<CareResponseDTO.StatRollup>> result =
+                careService.getSensorRollups(seniorUuid, from, to, resolution);
+        return result.getApiResponse(apiResponseFactory);
+    }
+
+    @Operation(
+            summary = "센서 통계 롤업 백필",
+            description = "[from, to) 의 지난 날짜들에 대해 원본 센서 데이터로부터 롤업을 다시 계산합니다.")
+    @PostMapping("/admin/stats/rollups/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> backfillSensorRollups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        BasicServiceResult<Void> result = careService.backfillSensorRollups(from, to);
+        return result.getApiResponseWithoutPayload(apiResponseFactory);
+    }
+
     @Operation(summary = "알림 상세 조회 ", description = "특정 알림의 UUID로 알림 상세 정보를 조회합니다.")
     @GetMapping("/senior/{seniorUuid}/alerts/{alertUuid}")
     @PreAuthorize("hasAnyRole('MEMBER', 'SENIOR', 'ADMIN')")
@@ -237,6 +413,69 @@ public class CareController {
                 result.getException());
     }
 
+    @Operation(
+            summary = "알림 이미지 조회",
+            description =
+                    "알림에 첨부된 이미지 파일을 내려줍니다. variant 를 지정하면 중간 크기(MEDIUM) 또는 썸네일(THUMBNAIL) JPEG 을"
+                            + " 내려줍니다. Range 요청을 지원하며, 이미지 내용이 바뀌지 않으므로 오래 캐시할 수 있습니다.")
+    @GetMapping("/senior/{seniorUuid}/alerts/{alertUuid}/image")
+    @PreAuthorize("hasAnyRole('MEMBER', 'SENIOR', 'ADMIN')")
+    public ResponseEntity<?> getAlertImage(
+            Authentication authentication,
+            @PathVariable String seniorUuid,
+            @PathVariable String alertUuid,
+            @RequestParam(required = false) AlertImageVariant variant) {
+        if (AuthUtil.isDeniedToAccessSeniorByMemberOrSenior(
+                careService, authentication, seniorUuid)) {
+            return apiResponseFactory.onFailure(
+                    ApiStatus._FORBIDDEN, "해당 시니어의 알림 이미지를 조회할 권한이 없습니다.");
+        }
+        BasicServiceResult<AlertImage> result =
+                careService.getAlertImage(seniorUuid, alertUuid, variant);
+        if (!result.isSuccess()) {
+            return result.getApiResponseWithoutPayload(apiResponseFactory);
+        }
+        AlertImage image = result.getPayload();
+        // Resource 본문은 Range 요청이면 요청한 구간만 206 으로, If-None-Match 가 맞으면 304 로 응답된다
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(image.contentType()))
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable())
+                .eTag(image.hash())
+                .body(new FileSystemResource(image.path()));
+    }
+
+    @Operation(summary = "알림 읽음 처리", description = "특정 알림을 읽음으로 표시합니다. 이미 읽은 알림이면 변경하지 않습니다.")
+    @PatchMapping("/senior/{seniorUuid}/alerts/{alertUuid}/read")
+    @PreAuthorize("hasAnyRole('MEMBER', 'SENIOR', 'ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> markAlertRead(
+            Authentication authentication,
+            @PathVariable String seniorUuid,
+            @PathVariable String alertUuid) {
+        if (AuthUtil.isDeniedToAccessSeniorByMemberOrSenior(
+                careService, authentication, seniorUuid)) {
+            return apiResponseFactory.onFailure(
+                    ApiStatus._FORBIDDEN, "해당 시니어의 알림을 변경할 권한이 없습니다.");
+        }
+        BasicServiceResult<Void> result = careService.markAlertRead(seniorUuid, alertUuid);
+        return result.getApiResponseWithoutPayload(apiResponseFactory);
+    }
+
+    @Operation(summary = "알림 해제", description = "특정 알림을 해제하여 목록에서 숨깁니다. 이미 해제한 알림이면 변경하지 않습니다.")
+    @PatchMapping("/senior/{seniorUuid}/alerts/{alertUuid}/dismiss")
+    @PreAuthorize("hasAnyRole('MEMBER', 'SENIOR', 'ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> dismissAlert(
+            Authentication authentication,
+            @PathVariable String seniorUuid,
+            @PathVariable String alertUuid) {
+        if (AuthUtil.isDeniedToAccessSeniorByMemberOrSenior(
+                careService, authentication, seniorUuid)) {
+            return apiResponseFactory.onFailure(
+                    ApiStatus._FORBIDDEN, "해당 시니어의 알림을 변경할 권한이 없습니다.");
+        }
+        BasicServiceResult<Void> result = careService.dismissAlert(seniorUuid, alertUuid);
+        return result.getApiResponseWithoutPayload(apiResponseFactory);
+    }
+
     @Operation(summary = "알림 등록", description = "홈 서버로부터 이벤트를 수신하여 시니어의 알림을 생성하고 푸시로 전송합니다.")
     @PostMapping("/senior/{seniorUuid}/alerts")
     @PreAuthorize("hasAnyRole('SENIOR', 'ADMIN')")
@@ -251,4 +490,26 @@ public class CareController {
                 careService.addCareAlert(seniorUuid, requestDto);
         return result.getApiResponse(apiResponseFactory);
     }
+
+    @Operation(
+            summary = "알림 등록 (이미지 업로드)",
+            description =
+                    "알림 정보(alert, JSON)와 이미지 파일(image)을 multipart/form-data 로 받아 알림을 생성하고"
+                            + " 푸시로 전송합니다. 이미지는 Base64 로 인코딩하지 않고 원본 그대로 보냅니다.")
+    @PostMapping(
+            path = "/senior/{seniorUuid}/alerts",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('SENIOR', 'ADMIN')")
+    public ResponseEntity<ApiResponse<CareResponseDTO.AlertBrief>> addCareAlertWithImage(
+            Authentication authentication,
+            @PathVariable String seniorUuid,
+            @RequestPart("alert") @Valid CareRequestDTO.PostCareAlert requestDto,
+            @RequestPart(value = "image", required = false) MultipartFile image) {
+        if (AuthUtil.isDeniedToAccessSeniorBySenior(authentication, seniorUuid)) {
+            return apiResponseFactory.onFailure(ApiStatus._FORBIDDEN, "본인만 자신의 알림을 등록할 수 있습니다.");
+        }
+        BasicServiceResult<CareResponseDTO.AlertBrief> result =
+                careService.addCareAlert(seniorUuid, requestDto, image);
+        return result.getApiResponse(apiResponseFactory);
+    }
 }
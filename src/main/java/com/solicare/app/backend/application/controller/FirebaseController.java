@@ -5,10 +5,9 @@ import com.solicare.app.backend.application.dto.res.DeviceResponseDTO;
 import com.solicare.app.backend.application.factory.ApiResponseFactory;
 import com.solicare.app.backend.domain.dto.BasicServiceResult;
 import com.solicare.app.backend.domain.dto.device.DeviceManageResult;
-import com.solicare.app.backend.domain.dto.push.PushDeliveryResult;
 import com.solicare.app.backend.domain.enums.PushMethod;
 import com.solicare.app.backend.domain.service.DeviceService;
-import com.solicare.app.backend.domain.service.FirebaseService;
+import com.solicare.app.backend.domain.service.PushService;
 import com.solicare.app.backend.global.res.ApiResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -25,6 +24,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Tag(name = "Firebase", description = "Google Firebase 관련 API")
 @RestController
@@ -32,7 +32,7 @@ import java.util.Optional;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class FirebaseController {
     private final DeviceService deviceService;
-    private final FirebaseService firebaseService;
+    private final PushService pushService;
     private final ApiResponseFactory apiResponseFactory;
 
     @Operation(summary = "FCM 등록된 기기 목록 조회", description = "(관리자) 현재 등록된 모든 FCM 기기 목록을 조회합니다.")
@@ -70,21 +70,24 @@ public class FirebaseController {
     @Operation(summary = "FCM 푸시 전송", description = "특정 토큰으로 FCM 푸시를 전송합니다.")
     @PreAuthorize("hasAnyRole('SENIOR', 'MEMBER', 'ADMIN')")
     @PostMapping("/fcm/push")
-    public ResponseEntity<ApiResponse<Void>> fcmPush(
+    public CompletableFuture<ResponseEntity<ApiResponse<Void>>> fcmPush(
             @RequestBody @Valid PushRequestDTO.FcmSend dto) {
-        PushDeliveryResult result =
-                firebaseService.sendMessageTo(
+        return pushService
+                .sendPushToToken(
+                        PushMethod.FCM,
                         dto.token(),
                         dto.body().channel(),
                         dto.body().title(),
                         dto.body().message(),
-                        Optional.ofNullable(dto.body().data()));
-        return apiResponseFactory.onResult(
-                result.getStatus().getApiStatus(),
-                result.getStatus().getCode(),
-                result.getStatus().getMessage(),
-                null,
-                result.getException());
+                        Optional.ofNullable(dto.body().data()))
+                .thenApply(
+                        result ->
+                                apiResponseFactory.onResult(
+                                        result.getStatus().getApiStatus(),
+                                        result.getStatus().getCode(),
+                                        result.getStatus().getMessage(),
+                                        null,
+                                        result.getException()));
     }
 
     @Operation(summary = "FCM 토큰 삭제", description = "특정 FCM 토큰을 DB에서 삭제합니다.")
@@ -5,7 +5,6 @@ import com.solicare.app.backend.application.dto.res.DeviceResponseDTO;
 import com.solicare.app.backend.application.factory.ApiResponseFactory;
 import com.solicare.app.backend.domain.dto.BasicServiceResult;
 import com.solicare.app.backend.domain.dto.device.DeviceManageResult;
-import com.solicare.app.backend.domain.dto.push.PushBatchProcessResult;
 import com.solicare.app.backend.domain.dto.push.PushDeliveryResult;
 import com.solicare.app.backend.domain.enums.Role;
 import com.solicare.app.backend.domain.service.DeviceService;
@@ -29,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Tag(name = "Push", description = "디바이스 및 푸시 관련 API")
 @RestController
@@ -74,27 +74,30 @@ public class PushController {
     @Operation(summary = "멤버 푸시 발송", description = "특정 멤버의 UUID로, 해당 회원의 모든 디바이스에 푸시 알림을 발송합니다.")
     @PostMapping("/member/{memberUuid}/push")
     @PreAuthorize("hasAnyRole('MEMBER', 'ADMIN')")
-    public ResponseEntity<ApiResponse<List<PushDeliveryResult>>> pushToMember(
+    public CompletableFuture<ResponseEntity<ApiResponse<List<PushDeliveryResult>>>> pushToMember(
             Authentication authentication,
             @PathVariable String memberUuid,
             @Valid @RequestBody PushRequestDTO.MessageBody messageDTO) {
         if (AuthUtil.isDeniedToAccessMemberByMember(authentication, memberUuid)) {
-            return apiResponseFactory.onFailure(ApiStatus._FORBIDDEN, "푸시를 발송할 권한이 없습니다");
+            return CompletableFuture.completedFuture(
+                    apiResponseFactory.onFailure(ApiStatus._FORBIDDEN, "푸시를 발송할 권한이 없습니다"));
         }
-        PushBatchProcessResult result =
-                pushService.pushBatch(
+        return pushService
+                .pushBatch(
                         Role.MEMBER,
                         memberUuid,
                         messageDTO.channel(),
                         messageDTO.title(),
                         messageDTO.message(),
-                        Optional.ofNullable(messageDTO.data()));
-        return apiResponseFactory.onResult(
-                result.getStatus().getApiStatus(),
-                result.getStatus().getCode(),
-                result.getStatus().getMessage(),
-                result.getDetails(),
-                null);
+                        Optional.ofNullable(messageDTO.data()))
+                .thenApply(
+                        result ->
+                                apiResponseFactory.onResult(
+                                        result.getStatus().getApiStatus(),
+                                        result.getStatus().getCode(),
+                                        result.getStatus().getMessage(),
+                                        result.getDetails(),
+                                        null));
     }
 
     @Operation(
@@ -134,26 +137,29 @@ public class PushController {
     @Operation(summary = "시니어 푸시 발송", description = "특정 시니어의 UUID로, 해당 회원의 모든 디바이스에 푸시 알림을 발송합니다.")
     @PostMapping("/senior/{seniorUuid}/push")
     @PreAuthorize("hasAnyRole('SENIOR', 'ADMIN')")
-    public ResponseEntity<ApiResponse<List<PushDeliveryResult>>> pushToSenior(
+    public CompletableFuture<ResponseEntity<ApiResponse<List<PushDeliveryResult>>>> pushToSenior(
             Authentication authentication,
             @PathVariable String seniorUuid,
             @Valid @RequestBody PushRequestDTO.MessageBody messageDTO) {
         if (AuthUtil.isDeniedToAccessSeniorBySenior(authentication, seniorUuid)) {
-            return apiResponseFactory.onFailure(ApiStatus._FORBIDDEN, "푸시를 발송할 권한이 없습니다");
+            return CompletableFuture.completedFuture(
+                    apiResponseFactory.onFailure(ApiStatus._FORBIDDEN, "푸시를 발송할 권한이 없습니다"));
         }
-        PushBatchProcessResult result =
-                pushService.pushBatch(
+        return pushService
+                .pushBatch(
                         Role.SENIOR,
                         seniorUuid,
                         messageDTO.channel(),
                         messageDTO.title(),
                         messageDTO.message(),
-                        Optional.ofNullable(messageDTO.data()));
-        return apiResponseFactory.onResult(
-                result.getStatus().getApiStatus(),
-                result.getStatus().getCode(),
-                result.getStatus().getMessage(),
-                result.getDetails(),
-                null);
+                        Optional.ofNullable(messageDTO.data()))
+                .thenApply(
+                        result ->
+                                apiResponseFactory.onResult(
+                                        result.getStatus().getApiStatus(),
+                                        result.getStatus().getCode(),
+                                        result.getStatus().getMessage(),
+                                        result.getDetails(),
+                                        null));
     }
 }
@@ -0,0 +1,53 @@
+package com.solicare.app.backend.application.dto.request;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.solicare.app.backend.domain.dto.care.StagedImage;
+import com.solicare.app.backend.domain.service.AlertImageStore;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.io.IOException;
+
+/**
+ * Base64 이미지 필드를 JSON 토큰 스트림에서 바로 디코딩하여 임시 파일에 씁니다. 문자열 전체를 힙에 만들지 않으므로 큰 이미지도
+ * 메모리 사용량이 일정합니다. Spring 이 생성하므로 빈을 주입받을 수 있습니다.
+ *
+ * <p>스트리밍으로 디코딩하므로 값 앞의 {@code data:image/png;base64,} 같은 data URI 접두사는 건너뛸 수 없습니다. 알림 등록
+ * 요청에서는 {@link DataUriPrefixBodyAdvice} 가 Jackson 이 읽기 전에 접두사를 걷어 냅니다.
+ */
+@RequiredArgsConstructor
+public class Base64ImageDeserializer extends JsonDeserializer<StagedImage> {
+    private static final Base64Variant BASE64 =
+            Base64Variants.MIME_NO_LINEFEEDS.withReadPadding(
+                    Base64Variant.PaddingReadBehaviour.PADDING_ALLOWED);
+
+    private final AlertImageStore alertImageStore;
+
+    @Override
+    public StagedImage deserialize(JsonParser parser, DeserializationContext context)
+            throws IOException {
+        StagedImage staged;
+        try {
+            staged = alertImageStore.stage(out -> parser.readBinaryValue(BASE64, out));
+        } catch (IllegalArgumentException e) {
+            throw JsonMappingException.from(parser, e.getMessage(), e);
+        }
+        // 알림 저장으로 옮겨지지 않은 임시 파일은 요청이 끝날 때 지운다
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.registerDestructionCallback(
+                    StagedImage.class.getName() + "." + staged.path().getFileName(),
+                    () -> alertImageStore.discard(staged),
+                    RequestAttributes.SCOPE_REQUEST);
+        }
+        return staged;
+    }
+}
@@ -1,16 +1,22 @@
 package com.solicare.app.backend.application.dto.request;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.solicare.app.backend.application.enums.MonitorMode;
 import com.solicare.app.backend.application.enums.SeniorEvent;
+import com.solicare.app.backend.domain.dto.care.StagedImage;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class CareRequestDTO {
@@ -59,6 +65,15 @@ public final class CareRequestDTO {
                     @NotNull(message = "웨어러블 배터리는 필수입니다.")
                     Double wearableBattery) {}
 
+    @Schema(name = "SeniorSensorStatBatchPostRequest", description = "시니어 센서 통계 일괄 등록 요청 DTO")
+    public record PostSensorStatBatch(
+            @Schema(
+                            description = "센서 통계 목록 (최대 1000건)",
+                            requiredMode = Schema.RequiredMode.REQUIRED)
+                    @NotEmpty(message = "센서 통계 목록은 비어 있을 수 없습니다.")
+                    @Size(max = 1000, message = "한 번에 최대 1000건까지 등록할 수 있습니다.")
+                    List<@Valid @NotNull PostSensorStat> stats) {}
+
     @Schema(name = "CareAlertPostRequest", description = "시니어 이벤트(알림) 등록 요청 DTO")
     public record PostCareAlert(
             @Schema(
@@ -80,10 +95,13 @@ public final class CareRequestDTO {
                     @NotNull(message = "모니터링 모드는 필수입니다.")
                     MonitorMode monitorMode,
             @Schema(
-                            description = "이벤트 이미지(Base64)",
-                            example = "data:image/png;base64,...",
+                            description = "이벤트 이미지(Base64, data URI 접두사 없이)",
+                            type = "string",
+                            format = "byte",
+                            example = "iVBORw0KGgo...",
                             requiredMode = Schema.RequiredMode.NOT_REQUIRED)
-                    String base64Image,
+                    @JsonDeserialize(using = Base64ImageDeserializer.class)
+                    StagedImage base64Image,
             @Schema(
                             description = "읽음 여부",
                             example = "false",
@@ -0,0 +1,165 @@
+package com.solicare.app.backend.application.dto.request;
+
+import com.solicare.app.backend.application.dto.request.CareRequestDTO.PostCareAlert;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 알림 등록 JSON 의 base64Image 값 앞에 붙은 {@code data:image/png;base64,} 같은 data URI 접두사를 요청 본문에서 걷어 냅니다.
+ * {@link Base64ImageDeserializer} 는 값을 스트리밍으로 디코딩하므로 접두사를 건너뛸 수 없어, Jackson 이 읽기 전에 본문
+ * 스트림에서 처리합니다. 나머지 본문은 그대로 흘려보내므로 이미지가 메모리에 올라가지 않습니다.
+ */
+@ControllerAdvice
+public class DataUriPrefixBodyAdvice extends RequestBodyAdviceAdapter {
+    @Override
+    public boolean supports(
+            MethodParameter methodParameter,
+            Type targetType,
+            Class<? extends HttpMessageConverter<?>> converterType) {
+        return PostCareAlert.class.equals(targetType);
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(
+            HttpInputMessage inputMessage,
+            MethodParameter parameter,
+            Type targetType,
+            Class<? extends HttpMessageConverter<?>> converterType)
+            throws IOException {
+        InputStream body = new DataUriPrefixStrippingInputStream(inputMessage.getBody());
+        HttpHeaders headers = inputMessage.getHeaders();
+        return new HttpInputMessage() {
+            @Override
+            public InputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+    }
+
+    /**
+     * {@code "base64Image"} 키 다음 문자열 값이 {@code data:} 로 시작하면 첫 {@code ,} 까지 버립니다. 그 값을 지나면 읽기를
+     * 그대로 위임합니다. 접두사가 {@link #MAX_PREFIX} 바이트 안에서 끝나지 않으면 건드리지 않고 넘겨 Jackson 이 잘못된 Base64
+     * 로 거절하게 합니다.
+     */
+    static final class DataUriPrefixStrippingInputStream extends FilterInputStream {
+        private static final byte[] KEY = "\"base64Image\"".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] DATA_URI = "data:".getBytes(StandardCharsets.US_ASCII);
+        private static final int MAX_PREFIX = 256;
+
+        private final byte[] pending = new byte[MAX_PREFIX];
+        private int pendingStart;
+        private int pendingEnd;
+        private int keyMatched;
+        private boolean afterKey;
+        private boolean passThrough;
+
+        DataUriPrefixStrippingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (pendingStart < pendingEnd) {
+                return pending[pendingStart++] & 0xff;
+            }
+            int b = in.read();
+            if (b < 0 || passThrough) {
+                return b;
+            }
+            if (!afterKey) {
+                keyMatched = b == KEY[keyMatched] ? keyMatched + 1 : (b == '"' ? 1 : 0);
+                afterKey = keyMatched == KEY.length;
+            } else if (b == '"') {
+                passThrough = true;
+                readValuePrefix();
+            } else if (b != ':' && !Character.isWhitespace(b)) {
+                // null 등 문자열이 아닌 값
+                passThrough = true;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (passThrough && pendingStart == pendingEnd) {
+                return in.read(buffer, offset, length);
+            }
+            // 값에 이르기 전의 짧은 구간만 한 바이트씩 읽는다
+            int read = 0;
+            while (read < length && !(passThrough && pendingStart == pendingEnd)) {
+                int b = read();
+                if (b < 0) {
+                    return read == 0 ? -1 : read;
+                }
+                buffer[offset + read++] = (byte) b;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = 0;
+            while (skipped < n && read() >= 0) {
+                skipped++;
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return pendingEnd - pendingStart + in.available();
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void readValuePrefix() throws IOException {
+            int length = 0;
+            int b;
+            while (length < DATA_URI.length && (b = in.read()) >= 0) {
+                pending[length++] = (byte) b;
+                if (b != DATA_URI[length - 1]) {
+                    break;
+                }
+            }
+            pendingStart = 0;
+            pendingEnd = length;
+            if (!Arrays.equals(pending, 0, length, DATA_URI, 0, DATA_URI.length)) {
+                return;
+            }
+            while (length < MAX_PREFIX && (b = in.read()) >= 0) {
+                pending[length++] = (byte) b;
+                if (b == ',') {
+                    pendingEnd = 0;
+                    return;
+                }
+                if (b == '"') {
+                    break;
+                }
+            }
+            pendingEnd = length;
+        }
+    }
+}
@@ -47,13 +47,44 @@ public final class CareResponseDTO {
             @Schema(description = "평균 심박수") Integer heartRate,
             @Schema(description = "평균 온도") Double temperature) {}
 
+    @Schema(name = "StatBatchAck", description = "센서 통계 일괄 등록 결과 응답 DTO")
+    public record StatBatchAck(
+            @Schema(description = "저장된 기록 수") Integer accepted,
+            @Schema(description = "가장 이른 측정 시각") String firstTimestamp,
+            @Schema(description = "가장 늦은 측정 시각") String lastTimestamp) {}
+
+    @Schema(name = "StatHistory", description = "센서 기록 페이지 응답 DTO")
+    public record StatHistory(
+            @Schema(description = "센서 기록 (최신순)") List<CareResponseDTO.StatDetail> stats,
+            @Schema(description = "다음 페이지 커서 (마지막 페이지이면 null)") String nextCursor) {}
+
+    @Schema(name = "StatRollup", description = "센서 통계 롤업 (분/시/일 단위) 응답 DTO")
+    public record StatRollup(
+            @Schema(description = "버킷 시작 시각") String bucketStart,
+            @Schema(description = "롤업 단위 (MINUTE, HOUR, DAY)") String resolution,
+            @Schema(description = "측정 건수") Long sampleCount,
+            @Schema(description = "심박수") MetricSummary heartRate,
+            @Schema(description = "체온") MetricSummary temperature,
+            @Schema(description = "습도") MetricSummary humidity,
+            @Schema(description = "웨어러블 배터리 잔량(%)") MetricSummary wearableBattery,
+            @Schema(description = "카메라 낙상 감지 횟수") Long cameraFallCount,
+            @Schema(description = "웨어러블 낙상 감지 횟수") Long wearableFallCount) {}
+
+    @Schema(name = "MetricSummary", description = "버킷 내 측정값 요약")
+    public record MetricSummary(
+            @Schema(description = "최솟값") Double min,
+            @Schema(description = "최댓값") Double max,
+            @Schema(description = "평균") Double avg) {}
+
     @Schema(name = "AlertDetail", description = "알림 상세 응답 DTO")
     public record AlertDetail(
             @Schema(description = "알림 UUID") String uuid,
             @Schema(description = "이벤트 타입") String eventType,
             @Schema(description = "모니터링 모드") String monitorMode,
             @Schema(description = "발생 시각") String timestamp,
-            @Schema(description = "이미지(Base64)") String base64Image,
+            @Schema(description = "원본 이미지 URL (이미지가 없으면 null)") String imageUrl,
+            @Schema(description = "중간 크기 JPEG URL (아직 만들어지지 않았으면 null)") String mediumImageUrl,
+            @Schema(description = "썸네일 JPEG URL (아직 만들어지지 않았으면 null)") String thumbnailImageUrl,
             @Schema(description = "알림 읽음 여부") Boolean isRead,
             @Schema(description = "알림 무시 여부") Boolean isDismissed) {}
 
@@ -15,7 +15,9 @@ public enum SeniorEvent {
     CAMERA_DISCONNECTED("장치분리 감지", "카메라 연결이 끊어졌습니다.\n카메라 기기 동작상태를 확인해주세요."),
     WEARABLE_BATTERY_LOW("디바이스 경고", "웨어러블 기기 배터리가 부족합니다.\n웨어러블 기기에 충전기를 연결해주세요."),
     WEARABLE_DISCONNECTED("장치분리 감지", "웨어러블 기기 연결이 끊어졌습니다.\n웨어러블 기기 동작상태를 확인해주세요."),
-    INACTIVITY_ALERT("비활동 감지", "장시간동안 시니어의 움직임이 감지되지 않습니다.\n시니어의 상태를 직접 확인해주세요.");
+    INACTIVITY_ALERT("비활동 감지", "장시간동안 시니어의 움직임이 감지되지 않습니다.\n시니어의 상태를 직접 확인해주세요."),
+    HEART_RATE_ABNORMAL("생체 신호 이상", "심박수가 평소와 크게 다릅니다.\n시니어의 상태를 직접 확인해주세요."),
+    TEMPERATURE_ABNORMAL("생체 신호 이상", "체온이 정상 범위를 벗어났습니다.\n시니어의 상태를 직접 확인해주세요.");
 
     private final String title;
     private final String message;
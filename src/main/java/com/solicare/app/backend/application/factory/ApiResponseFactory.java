@@ -6,10 +6,12 @@ import com.solicare.app.backend.global.res.ApiStatus;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
 
 @Service
@@ -18,7 +20,9 @@ public class ApiResponseFactory {
     public ResponseEntity<ApiResponse<Void>> onStatus(ApiStatus status) {
         return onCustom(
                 status.getHttpStatus(),
-                status == ApiStatus._OK || status == ApiStatus._CREATED,
+                status == ApiStatus._OK
+                        || status == ApiStatus._CREATED
+                        || status == ApiStatus._ACCEPTED,
                 status.getCode(),
                 status.getMessage(),
                 null,
@@ -40,13 +44,24 @@ public class ApiResponseFactory {
             ApiStatus status, String code, String message, T body, Exception exception) {
         return onCustom(
                 status.getHttpStatus(),
-                status == ApiStatus._OK || status == ApiStatus._CREATED,
+                status == ApiStatus._OK
+                        || status == ApiStatus._CREATED
+                        || status == ApiStatus._ACCEPTED,
                 code,
                 message,
                 body,
                 exception == null ? null : List.of(exception.getMessage()));
     }
 
+    /** 429/503 응답에 클라이언트가 다시 시도할 시점(초)을 Retry-After 헤더로 알려 줍니다. */
+    public <T> ResponseEntity<ApiResponse<T>> withRetryAfter(
+            ResponseEntity<ApiResponse<T>> response, Duration retryAfter) {
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter.toSeconds()))
+                .body(response.getBody());
+    }
+
     public <T> ResponseEntity<ApiResponse<T>> onFailure(ApiStatus status, String message) {
         return onCustom(status.getHttpStatus(), false, status.getCode(), message, null, null);
     }
@@ -2,18 +2,28 @@ package com.solicare.app.backend.application.mapper;
 
 import com.solicare.app.backend.application.dto.request.CareRequestDTO.PostCareAlert;
 import com.solicare.app.backend.application.dto.request.CareRequestDTO.PostSensorStat;
+import com.solicare.app.backend.application.dto.request.CareRequestDTO.PostSensorStatBatch;
 import com.solicare.app.backend.application.dto.res.CareResponseDTO;
+import com.solicare.app.backend.domain.dto.care.AlertImage;
+import com.solicare.app.backend.domain.dto.care.CareAlertBriefRow;
+import com.solicare.app.backend.domain.dto.care.SeniorBriefRow;
 import com.solicare.app.backend.domain.entity.CareAlert;
 import com.solicare.app.backend.domain.entity.Member;
 import com.solicare.app.backend.domain.entity.Senior;
+import com.solicare.app.backend.domain.entity.SeniorSensorRollup;
 import com.solicare.app.backend.domain.entity.SeniorSensorStat;
+import com.solicare.app.backend.domain.enums.AlertImageVariant;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
@@ -34,6 +44,11 @@ public class CareMapper {
                 unreadAlertCount);
     }
 
+    public CareResponseDTO.SeniorBrief toSeniorBriefDTO(SeniorBriefRow row) {
+        return new CareResponseDTO.SeniorBrief(
+                row.uuid(), row.name(), row.age(), row.gender(), row.unreadAlertCount());
+    }
+
     public SeniorSensorStat toEntity(PostSensorStat dto, Senior senior) {
         return SeniorSensorStat.builder()
                 .senior(senior)
@@ -47,13 +62,14 @@ public class CareMapper {
                 .build();
     }
 
-    public CareAlert toEntity(PostCareAlert dto, Senior senior) {
+    public CareAlert toEntity(PostCareAlert dto, Senior senior, AlertImage image) {
         return CareAlert.builder()
                 .senior(senior)
                 .timestamp(dto.timestamp())
                 .eventType(dto.eventType())
                 .monitorMode(dto.monitorMode())
-                .base64Image(dto.base64Image())
+                .imageHash(image != null ? image.hash() : null)
+                .imageContentType(image != null ? image.contentType() : null)
                 .isRead(Boolean.TRUE.equals(dto.isRead()))
                 .isDismissed(Boolean.TRUE.equals(dto.isDismissed()))
                 .build();
@@ -67,17 +83,38 @@ public class CareMapper {
                 alert.getIsRead());
     }
 
+    public CareResponseDTO.AlertBrief toAlertBrief(CareAlertBriefRow row) {
+        return new CareResponseDTO.AlertBrief(
+                row.uuid(),
+                row.eventType().name(),
+                row.timestamp().format(ISO_FORMAT),
+                row.isRead());
+    }
+
     public CareResponseDTO.AlertDetail toAlertDetail(CareAlert alert) {
         return new CareResponseDTO.AlertDetail(
                 alert.getUuid(),
                 alert.getEventType().name(),
                 alert.getMonitorMode().name(),
                 alert.getTimestamp().format(ISO_FORMAT),
-                alert.getBase64Image(),
+                alert.getImageHash() != null ? toAlertImageUrl(alert, null) : null,
+                alert.getMediumImageHash() != null
+                        ? toAlertImageUrl(alert, AlertImageVariant.MEDIUM)
+                        : null,
+                alert.getThumbnailImageHash() != null
+                        ? toAlertImageUrl(alert, AlertImageVariant.THUMBNAIL)
+                        : null,
                 alert.getIsRead(),
                 alert.getIsDismissed());
     }
 
+    private String toAlertImageUrl(CareAlert alert, AlertImageVariant variant) {
+        String url =
+                "/api/care/senior/%s/alerts/%s/image"
+                        .formatted(alert.getSenior().getUuid(), alert.getUuid());
+        return variant == null ? url : url + "?variant=" + variant.name();
+    }
+
     public CareResponseDTO.StatBrief toStatBrief(SeniorSensorStat stat) {
         return new CareResponseDTO.StatBrief(
                 stat.getUuid(),
@@ -86,6 +123,49 @@ public class CareMapper {
                 stat.getTemperature());
     }
 
+    public CareResponseDTO.StatBatchAck toStatBatchAck(List<SeniorSensorStat> stats) {
+        return toStatBatchAck(stats.stream().map(SeniorSensorStat::getTimestamp).toList());
+    }
+
+    public CareResponseDTO.StatBatchAck toStatBatchAck(PostSensorStatBatch dto) {
+        return toStatBatchAck(dto.stats().stream().map(PostSensorStat::timestamp).toList());
+    }
+
+    private CareResponseDTO.StatBatchAck toStatBatchAck(Collection<LocalDateTime> timestamps) {
+        LocalDateTime first = timestamps.stream().min(Comparator.naturalOrder()).orElse(null);
+        LocalDateTime last = timestamps.stream().max(Comparator.naturalOrder()).orElse(null);
+        return new CareResponseDTO.StatBatchAck(
+                timestamps.size(),
+                first == null ? null : first.format(ISO_FORMAT),
+                last == null ? null : last.format(ISO_FORMAT));
+    }
+
+    public CareResponseDTO.StatRollup toStatRollup(SeniorSensorRollup rollup) {
+        double count = rollup.getSampleCount();
+        return new CareResponseDTO.StatRollup(
+                rollup.getBucketStart().format(ISO_FORMAT),
+                rollup.getResolution().name(),
+                rollup.getSampleCount(),
+                new CareResponseDTO.MetricSummary(
+                        rollup.getHeartRateMin().doubleValue(),
+                        rollup.getHeartRateMax().doubleValue(),
+                        rollup.getHeartRateSum() / count),
+                new CareResponseDTO.MetricSummary(
+                        rollup.getTemperatureMin(),
+                        rollup.getTemperatureMax(),
+                        rollup.getTemperatureSum() / count),
+                new CareResponseDTO.MetricSummary(
+                        rollup.getHumidityMin(),
+                        rollup.getHumidityMax(),
+                        rollup.getHumiditySum() / count),
+                new CareResponseDTO.MetricSummary(
+                        rollup.getWearableBatteryMin(),
+                        rollup.getWearableBatteryMax(),
+                        rollup.getWearableBatterySum() / count),
+                rollup.getCameraFallCount(),
+                rollup.getWearableFallCount());
+    }
+
     public CareResponseDTO.StatDetail toStatDetail(SeniorSensorStat stat) {
         return new CareResponseDTO.StatDetail(
                 stat.getUuid(),
@@ -26,7 +26,9 @@ public class BasicServiceResult<PayloadDataType> implements ServiceResult {
 
     @Override
     public boolean isSuccess() {
-        return status == ApiStatus._OK || status == ApiStatus._CREATED;
+        return status == ApiStatus._OK
+                || status == ApiStatus._CREATED
+                || status == ApiStatus._ACCEPTED;
     }
 
     public ResponseEntity<ApiResponse<PayloadDataType>> getApiResponse(
@@ -0,0 +1,6 @@
+package com.solicare.app.backend.domain.dto.care;
+
+import java.nio.file.Path;
+
+/** 블롭 저장소에 저장된 알림 이미지. hash 는 내용의 SHA-256 이며 파일 이름이자 ETag 로 쓰입니다. */
+public record AlertImage(String hash, String contentType, Path path) {}
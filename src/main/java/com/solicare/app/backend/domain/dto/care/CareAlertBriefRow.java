@@ -0,0 +1,9 @@
+package com.solicare.app.backend.domain.dto.care;
+
+import com.solicare.app.backend.application.enums.SeniorEvent;
+
+import java.time.LocalDateTime;
+
+/** 알림 목록용 projection. 이미지 참조 등 목록에 필요 없는 컬럼은 조회하지 않습니다. */
+public record CareAlertBriefRow(
+        String uuid, SeniorEvent eventType, LocalDateTime timestamp, Boolean isRead) {}
@@ -0,0 +1,7 @@
+package com.solicare.app.backend.domain.dto.care;
+
+import com.solicare.app.backend.domain.enums.Gender;
+
+/** 보호자의 시니어 목록용 projection. 읽지 않은 알림 수는 senior_alert_counter 에서 함께 조회합니다. */
+public record SeniorBriefRow(
+        String uuid, String name, Integer age, Gender gender, Long unreadAlertCount) {}
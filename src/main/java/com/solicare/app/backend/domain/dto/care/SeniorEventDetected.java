@@ -0,0 +1,9 @@
+package com.solicare.app.backend.domain.dto.care;
+
+import com.solicare.app.backend.application.enums.SeniorEvent;
+
+import java.time.LocalDateTime;
+
+/** 서버가 센서 측정값에서 감지한 시니어 이벤트. 측정값 저장이 커밋된 뒤에 알림으로 등록됩니다. */
+public record SeniorEventDetected(
+        String seniorUuid, SeniorEvent eventType, LocalDateTime timestamp) {}
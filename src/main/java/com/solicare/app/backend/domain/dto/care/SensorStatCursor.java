@@ -0,0 +1,45 @@
+package com.solicare.app.backend.domain.dto.care;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 센서 기록 keyset 페이지네이션 커서. 마지막으로 반환한 기록의 (timestamp, uuid) 를 URL-safe Base64 로 감싸 클라이언트에는
+ * 불투명한 문자열로 전달합니다.
+ */
+public record SensorStatCursor(LocalDateTime timestamp, String uuid) {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode() {
+        byte[] uuidBytes = uuid.getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES + uuidBytes.length);
+        buffer.putLong(timestamp.toEpochSecond(ZoneOffset.UTC))
+                .putInt(timestamp.getNano())
+                .put(uuidBytes);
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    /** 잘못된 커서이면 IllegalArgumentException 을 던집니다. */
+    public static SensorStatCursor decode(String cursor) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(DECODER.decode(cursor));
+            LocalDateTime timestamp =
+                    LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            byte[] uuidBytes = new byte[buffer.remaining()];
+            buffer.get(uuidBytes);
+            String uuid = new String(uuidBytes, StandardCharsets.US_ASCII);
+            if (uuid.isEmpty()) {
+                throw new IllegalArgumentException("INVALID_CURSOR");
+            }
+            return new SensorStatCursor(timestamp, uuid);
+        } catch (BufferUnderflowException | DateTimeException e) {
+            throw new IllegalArgumentException("INVALID_CURSOR", e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.solicare.app.backend.domain.dto.care;
+
+import java.time.LocalDateTime;
+
+/** 내보내기용 센서 기록 projection. 엔티티가 아니므로 영속성 컨텍스트에 쌓이지 않습니다. */
+public record SensorStatExportRow(
+        String uuid,
+        LocalDateTime timestamp,
+        Boolean cameraFallDetected,
+        Boolean wearableFallDetected,
+        Double temperature,
+        Double humidity,
+        Integer heartRate,
+        Double wearableBattery) {}
@@ -0,0 +1,9 @@
+package com.solicare.app.backend.domain.dto.care;
+
+import java.nio.file.Path;
+
+/**
+ * 업로드 중 임시 파일에 받아 둔 이미지. 알림 저장이 커밋된 뒤에 {@code AlertImageStore#commitAfterTransaction} 으로 저장소에
+ * 옮겨지며, 옮겨지지 않은 임시 파일은 요청이 끝날 때 지워집니다.
+ */
+public record StagedImage(Path path, String hash, long size) {}
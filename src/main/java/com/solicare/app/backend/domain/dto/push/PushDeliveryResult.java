@@ -1,22 +1,53 @@
 package com.solicare.app.backend.domain.dto.push;
 
 import com.solicare.app.backend.domain.dto.ServiceResult;
+import com.solicare.app.backend.domain.enums.PushErrorCode;
 import com.solicare.app.backend.global.res.ApiStatus;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.With;
+
+import java.time.Duration;
 
 @Getter
-@AllArgsConstructor(staticName = "of")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class PushDeliveryResult implements ServiceResult {
     private Status status;
+    private PushErrorCode errorCode;
+    private Duration retryAfter;
     private Exception exception;
 
+    /** 결과가 속한 디바이스. 디바이스 목록으로 발송한 결과에만 채워지며, 토픽 발송 결과는 null 입니다. */
+    @With private String deviceUuid;
+
+    public static PushDeliveryResult of(
+            Status status, PushErrorCode errorCode, Duration retryAfter, Exception exception) {
+        return new PushDeliveryResult(status, errorCode, retryAfter, exception, null);
+    }
+
+    public static PushDeliveryResult of(Status status, Exception exception) {
+        return PushDeliveryResult.of(status, null, null, exception);
+    }
+
+    public static PushDeliveryResult of(
+            Status status, PushErrorCode errorCode, Exception exception) {
+        return PushDeliveryResult.of(status, errorCode, null, exception);
+    }
+
     public boolean isSuccess() {
         return status == Status.SENT;
     }
 
+    public boolean isDeadToken() {
+        return errorCode != null && errorCode.isDeadToken();
+    }
+
+    public boolean isRetryable() {
+        return !isSuccess() && errorCode != null && errorCode.isRetryable();
+    }
+
     @Getter
     @AllArgsConstructor(access = AccessLevel.PRIVATE)
     public enum Status {
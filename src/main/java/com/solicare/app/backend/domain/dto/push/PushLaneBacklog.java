@@ -0,0 +1,8 @@
+package com.solicare.app.backend.domain.dto.push;
+
+import com.solicare.app.backend.application.enums.PushChannel;
+
+import java.time.LocalDateTime;
+
+/** 채널(lane)별로 지금 발송 가능한 outbox 항목 수와 그중 가장 오래 기다린 항목의 발송 가능 시각 */
+public record PushLaneBacklog(PushChannel channel, Long depth, LocalDateTime oldestAt) {}
@@ -0,0 +1,15 @@
+package com.solicare.app.backend.domain.dto.push;
+
+import com.solicare.app.backend.application.enums.PushChannel;
+
+import java.util.Map;
+import java.util.Optional;
+
+/** 게이트웨이에 전달되는 발송 내용. 수신 토큰과 무관하게 한 번 만들어 여러 토큰에 재사용합니다. */
+public record PushMessage(
+        PushChannel channel, String title, String body, Map<String, String> data) {
+    public static PushMessage of(
+            PushChannel channel, String title, String body, Optional<Map<String, String>> data) {
+        return new PushMessage(channel, title, body, data.map(Map::copyOf).orElse(null));
+    }
+}
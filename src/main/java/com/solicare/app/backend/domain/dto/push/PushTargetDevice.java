@@ -0,0 +1,11 @@
+package com.solicare.app.backend.domain.dto.push;
+
+import com.solicare.app.backend.domain.entity.Device;
+import com.solicare.app.backend.domain.enums.PushMethod;
+
+/** 푸시 발송에 필요한 디바이스 정보만 담은 조회 전용 프로젝션 */
+public record PushTargetDevice(String uuid, PushMethod pushMethod, String token) {
+    public static PushTargetDevice from(Device device) {
+        return new PushTargetDevice(device.getUuid(), device.getPushMethod(), device.getToken());
+    }
+}
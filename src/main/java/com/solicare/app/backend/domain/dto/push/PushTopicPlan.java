@@ -0,0 +1,16 @@
+package com.solicare.app.backend.domain.dto.push;
+
+import com.solicare.app.backend.domain.entity.PushTopicSubscription;
+
+import java.util.List;
+
+/** 한 시니어 토픽에 대해 새로 구독할 디바이스와 해지할 기존 구독 */
+public record PushTopicPlan(
+        String seniorUuid,
+        String topic,
+        List<PushTargetDevice> toSubscribe,
+        List<PushTopicSubscription> toUnsubscribe) {
+    public boolean isEmpty() {
+        return toSubscribe.isEmpty() && toUnsubscribe.isEmpty();
+    }
+}
@@ -1,9 +1,14 @@
 package com.solicare.app.backend.domain.entity;
 
+import com.solicare.app.backend.global.jpa.BinaryUuidType;
+import com.solicare.app.backend.global.jpa.UuidV7;
+
 import jakarta.persistence.*;
 
 import lombok.*;
 
+import org.hibernate.annotations.Type;
+
 import java.time.LocalDate;
 
 @Entity
@@ -13,7 +18,9 @@ import java.time.LocalDate;
 @Builder
 public class Care {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
+    @Type(BinaryUuidType.class)
+    @Column(length = 16)
     private String uuid;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -2,11 +2,17 @@ package com.solicare.app.backend.domain.entity;
 
 import com.solicare.app.backend.application.enums.MonitorMode;
 import com.solicare.app.backend.application.enums.SeniorEvent;
+import com.solicare.app.backend.global.jpa.BinaryUuidType;
+import com.solicare.app.backend.global.jpa.UuidV7;
 
 import jakarta.persistence.*;
 
 import lombok.*;
 
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.Type;
+import org.hibernate.type.SqlTypes;
+
 import java.time.LocalDateTime;
 
 @Entity
@@ -16,23 +22,41 @@ import java.time.LocalDateTime;
 @Builder
 public class CareAlert {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
+    @Type(BinaryUuidType.class)
+    @Column(length = 16)
     private String uuid;
 
     @Column(nullable = false)
     private LocalDateTime timestamp;
 
+    // MariaDB ENUM 컬럼은 이벤트 유형이 추가될 때마다 ALTER 가 필요하므로 VARCHAR 로 저장한다
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 64)
     private SeniorEvent eventType;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private MonitorMode monitorMode;
 
-    @Lob
-    @Column(columnDefinition = "LONGTEXT")
-    private String base64Image;
+    // 이미지는 AlertImageStore 에 저장하고, 행에는 내용 해시만 남긴다
+    @Column(length = 64)
+    private String imageHash;
+
+    @Column(length = 64)
+    private String imageContentType;
+
+    // 축소본은 알림 저장 후 AlertImageVariantProcessor 가 채운다. 모두 JPEG 이다
+    @Column(length = 64)
+    private String mediumImageHash;
+
+    @Column private Long mediumImageSize;
+
+    @Column(length = 64)
+    private String thumbnailImageHash;
+
+    @Column private Long thumbnailImageSize;
 
     @Column(nullable = false)
     @Builder.Default
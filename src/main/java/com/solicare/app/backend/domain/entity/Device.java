@@ -2,11 +2,15 @@ package com.solicare.app.backend.domain.entity;
 
 import com.solicare.app.backend.domain.enums.PushMethod;
 import com.solicare.app.backend.domain.enums.Role;
+import com.solicare.app.backend.global.jpa.BinaryUuidType;
+import com.solicare.app.backend.global.jpa.UuidV7;
 
 import jakarta.persistence.*;
 
 import lombok.*;
 
+import org.hibernate.annotations.Type;
+
 import java.time.LocalDateTime;
 
 @Entity
@@ -17,7 +21,9 @@ import java.time.LocalDateTime;
 @Builder
 public class Device {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
+    @Type(BinaryUuidType.class)
+    @Column(length = 16)
     private String uuid;
 
     //    @Builder.Default @Column private boolean enabled = true;
@@ -1,9 +1,14 @@
 package com.solicare.app.backend.domain.entity;
 
+import com.solicare.app.backend.global.jpa.BinaryUuidType;
+import com.solicare.app.backend.global.jpa.UuidV7;
+
 import jakarta.persistence.*;
 
 import lombok.*;
 
+import org.hibernate.annotations.Type;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,7 +20,9 @@ import java.util.List;
 @ToString(exclude = "password") // 비밀번호 로그 노출 방지
 public class Member {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
+    @Type(BinaryUuidType.class)
+    @Column(length = 16)
     private String uuid;
 
     @Column(nullable = false)
@@ -0,0 +1,139 @@
+package com.solicare.app.backend.domain.entity;
+
+import com.solicare.app.backend.application.enums.PushChannel;
+import com.solicare.app.backend.domain.enums.PushOutboxStatus;
+import com.solicare.app.backend.domain.enums.PushTarget;
+import com.solicare.app.backend.global.jpa.BinaryUuidType;
+import com.solicare.app.backend.global.jpa.UuidV7;
+
+import jakarta.persistence.*;
+
+import lombok.*;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.Type;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Entity
+@Table(
+        name = "push_outbox",
+        indexes =
+                @Index(
+                        name = "idx_push_outbox_lane",
+                        columnList = "status, channel, nextAttemptAt"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PushOutbox {
+    @Id
+    @UuidV7
+    @Type(BinaryUuidType.class)
+    @Column(length = 16)
+    private String uuid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PushTarget target;
+
+    @Column(nullable = false)
+    private String targetUuid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PushChannel channel;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, length = 1000)
+    private String body;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    private Map<String, String> data;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private PushOutboxStatus status = PushOutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column private LocalDateTime sentAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+
+    /** 디스패처가 처리 중인 항목으로 표시합니다. lease 가 만료되면 다시 처리 대상이 됩니다. */
+    public PushOutbox claim(LocalDateTime leaseUntil) {
+        this.status = PushOutboxStatus.IN_FLIGHT;
+        this.nextAttemptAt = leaseUntil;
+        this.attempts++;
+        return this;
+    }
+
+    public PushOutbox markSent() {
+        this.status = PushOutboxStatus.SENT;
+        this.sentAt = LocalDateTime.now();
+        this.lastError = null;
+        return this;
+    }
+
+    public PushOutbox markSkipped(String reason) {
+        this.status = PushOutboxStatus.SKIPPED;
+        this.lastError = truncate(reason);
+        return this;
+    }
+
+    public PushOutbox markFailed(String error, LocalDateTime retryAt, int maxAttempts) {
+        this.lastError = truncate(error);
+        if (this.attempts >= maxAttempts) {
+            this.status = PushOutboxStatus.FAILED;
+        } else {
+            this.status = PushOutboxStatus.PENDING;
+            this.nextAttemptAt = retryAt;
+        }
+        return this;
+    }
+
+    /** 게이트웨이 장애(서킷 OPEN)로 보류합니다. 이번 시도는 재시도 횟수에 포함하지 않습니다. */
+    public PushOutbox park(LocalDateTime until, String reason) {
+        this.status = PushOutboxStatus.PENDING;
+        this.nextAttemptAt = until;
+        this.attempts = Math.max(0, this.attempts - 1);
+        this.lastError = truncate(reason);
+        return this;
+    }
+
+    public PushOutbox markDead(String error) {
+        this.status = PushOutboxStatus.FAILED;
+        this.lastError = truncate(error);
+        return this;
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= 1000) {
+            return message;
+        }
+        return message.substring(0, 1000);
+    }
+}
@@ -0,0 +1,59 @@
+package com.solicare.app.backend.domain.entity;
+
+import com.solicare.app.backend.domain.dto.push.PushTargetDevice;
+import com.solicare.app.backend.domain.enums.PushMethod;
+import com.solicare.app.backend.global.jpa.BinaryUuidType;
+import com.solicare.app.backend.global.jpa.UuidV7;
+
+import jakarta.persistence.*;
+
+import lombok.*;
+
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+
+/** 게이트웨이에 실제로 구독 요청이 성공한 (토픽, 디바이스 토큰) 상태. 원하는 상태와 비교해 차이만 구독/해지합니다. */
+@Entity
+@Table(
+        name = "push_topic_subscription",
+        indexes = @Index(name = "idx_push_topic_subscription_senior", columnList = "seniorUuid"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PushTopicSubscription {
+    @Id
+    @UuidV7
+    @Type(BinaryUuidType.class)
+    @Column(length = 16)
+    private String uuid;
+
+    @Column(nullable = false)
+    private String seniorUuid;
+
+    @Column(nullable = false)
+    private String topic;
+
+    @Column(nullable = false)
+    private String deviceUuid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PushMethod pushMethod;
+
+    @Column(nullable = false, length = 2048)
+    private String token;
+
+    @Column(nullable = false)
+    private LocalDateTime subscribedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.subscribedAt = LocalDateTime.now();
+    }
+
+    public PushTargetDevice toTargetDevice() {
+        return new PushTargetDevice(deviceUuid, pushMethod, token);
+    }
+}
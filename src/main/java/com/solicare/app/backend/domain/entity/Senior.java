@@ -1,11 +1,15 @@
 package com.solicare.app.backend.domain.entity;
 
 import com.solicare.app.backend.domain.enums.Gender;
+import com.solicare.app.backend.global.jpa.BinaryUuidType;
+import com.solicare.app.backend.global.jpa.UuidV7;
 
 import jakarta.persistence.*;
 
 import lombok.*;
 
+import org.hibernate.annotations.Type;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,7 +21,9 @@ import java.util.List;
 @ToString(exclude = "password")
 public class Senior {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
+    @Type(BinaryUuidType.class)
+    @Column(length = 16)
     private String uuid;
 
     @Column(nullable = false, length = 20, unique = true)
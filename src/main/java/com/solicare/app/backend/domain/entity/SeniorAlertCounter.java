@@ -0,0 +1,34 @@
+package com.solicare.app.backend.domain.entity;
+
+import com.solicare.app.backend.global.jpa.BinaryUuidType;
+
+import jakarta.persistence.*;
+
+import lombok.*;
+
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시니어별 읽지 않은 (해제되지 않은) 알림 수. 쓰기는 {@code SeniorAlertCounterService} 의 native upsert 로만 하며, 주기적으로
+ * care_alert 에서 다시 계산하여 보정합니다.
+ */
+@Entity
+@Table(name = "senior_alert_counter")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SeniorAlertCounter {
+    @Id
+    @Type(BinaryUuidType.class)
+    @Column(name = "senior_uuid", length = 16)
+    private String seniorUuid;
+
+    @Column(nullable = false)
+    private Long unreadCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
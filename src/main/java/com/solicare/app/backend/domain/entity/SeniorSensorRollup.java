@@ -0,0 +1,95 @@
+package com.solicare.app.backend.domain.entity;
+
+import com.solicare.app.backend.domain.enums.RollupResolution;
+import com.solicare.app.backend.global.jpa.BinaryUuidType;
+import com.solicare.app.backend.global.jpa.UuidV7;
+
+import jakarta.persistence.*;
+
+import lombok.*;
+
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시니어별 분/시/일 단위 센서 통계 롤업. 평균은 합계/건수로 계산하므로 측정값이 들어올 때마다 증분으로 더할 수 있습니다. 쓰기는
+ * {@code SensorRollupService} 의 native upsert 로만 합니다.
+ */
+@Entity
+@Table(
+        name = "senior_sensor_rollup",
+        uniqueConstraints =
+                @UniqueConstraint(
+                        name = "uk_senior_sensor_rollup_bucket",
+                        columnNames = {"senior_uuid", "resolution", "bucket_start"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SeniorSensorRollup {
+    @Id
+    @UuidV7
+    @Type(BinaryUuidType.class)
+    @Column(length = 16)
+    private String uuid;
+
+    @Type(BinaryUuidType.class)
+    @Column(name = "senior_uuid", nullable = false, length = 16)
+    private String seniorUuid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private RollupResolution resolution;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private Long sampleCount;
+
+    @Column(nullable = false)
+    private Integer heartRateMin;
+
+    @Column(nullable = false)
+    private Integer heartRateMax;
+
+    @Column(nullable = false)
+    private Long heartRateSum;
+
+    @Column(nullable = false)
+    private Double temperatureMin;
+
+    @Column(nullable = false)
+    private Double temperatureMax;
+
+    @Column(nullable = false)
+    private Double temperatureSum;
+
+    @Column(nullable = false)
+    private Double humidityMin;
+
+    @Column(nullable = false)
+    private Double humidityMax;
+
+    @Column(nullable = false)
+    private Double humiditySum;
+
+    @Column(nullable = false)
+    private Double wearableBatteryMin;
+
+    @Column(nullable = false)
+    private Double wearableBatteryMax;
+
+    @Column(nullable = false)
+    private Double wearableBatterySum;
+
+    @Column(nullable = false)
+    private Long cameraFallCount;
+
+    @Column(nullable = false)
+    private Long wearableFallCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
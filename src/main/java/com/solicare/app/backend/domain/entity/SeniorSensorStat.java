@@ -1,19 +1,32 @@
 package com.solicare.app.backend.domain.entity;
 
+import com.solicare.app.backend.global.jpa.BinaryUuidType;
+import com.solicare.app.backend.global.jpa.UuidV7;
+
 import jakarta.persistence.*;
 
 import lombok.*;
 
+import org.hibernate.annotations.Type;
+
 import java.time.LocalDateTime;
 
 @Entity
+@Table(
+        name = "senior_sensor_stat",
+        indexes =
+                @Index(
+                        name = "idx_senior_sensor_stat_keyset",
+                        columnList = "senior_uuid, timestamp, uuid"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class SeniorSensorStat {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
+    @Type(BinaryUuidType.class)
+    @Column(length = 16)
     private String uuid;
 
     @Column(nullable = false)
@@ -0,0 +1,16 @@
+package com.solicare.app.backend.domain.enums;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 알림 이미지 원본에서 만드는 축소본. 긴 변이 maxEdge 를 넘지 않도록 줄여 JPEG 으로 다시 압축합니다. */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public enum AlertImageVariant {
+    MEDIUM(1280, 0.8f),
+    THUMBNAIL(240, 0.7f);
+
+    private final int maxEdge;
+    private final float jpegQuality;
+}
@@ -0,0 +1,17 @@
+package com.solicare.app.backend.domain.enums;
+
+import com.solicare.app.backend.application.enums.SeniorEvent;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** heartbeat 를 보내는 시니어 기기와, heartbeat 가 끊겼을 때 알릴 이벤트 */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public enum MonitoredDevice {
+    CAMERA(SeniorEvent.CAMERA_DISCONNECTED),
+    WEARABLE(SeniorEvent.WEARABLE_DISCONNECTED);
+
+    private final SeniorEvent disconnectedEvent;
+}
@@ -0,0 +1,26 @@
+package com.solicare.app.backend.domain.enums;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 푸시 게이트웨이가 반환한 토큰 단위 오류 코드 (FCM MessagingErrorCode 기준) */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public enum PushErrorCode {
+    UNREGISTERED(true, false),
+    INVALID_ARGUMENT(true, false),
+    SENDER_ID_MISMATCH(true, false),
+    QUOTA_EXCEEDED(false, true),
+    UNAVAILABLE(false, true),
+    INTERNAL(false, true),
+    THIRD_PARTY_AUTH_ERROR(false, false),
+    CIRCUIT_OPEN(false, true),
+    UNKNOWN(false, false);
+
+    /** 토큰이 더 이상 유효하지 않아 디바이스를 정리해야 하는지 여부 */
+    private final boolean deadToken;
+
+    /** 잠시 후 재시도하면 성공할 수 있는 일시적 오류인지 여부 */
+    private final boolean retryable;
+}
@@ -0,0 +1,9 @@
+package com.solicare.app.backend.domain.enums;
+
+public enum PushOutboxStatus {
+    PENDING,
+    IN_FLIGHT,
+    SENT,
+    SKIPPED,
+    FAILED
+}
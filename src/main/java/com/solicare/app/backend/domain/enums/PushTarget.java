@@ -0,0 +1,24 @@
+package com.solicare.app.backend.domain.enums;
+
+public enum PushTarget {
+    MEMBER,
+    SENIOR,
+    SENIOR_CAREGIVERS,
+    DEVICE;
+
+    public static PushTarget fromRole(Role role) {
+        return switch (role) {
+            case MEMBER -> MEMBER;
+            case SENIOR -> SENIOR;
+            default -> throw new IllegalArgumentException("Invalid role: " + role);
+        };
+    }
+
+    public Role toRole() {
+        return switch (this) {
+            case MEMBER -> Role.MEMBER;
+            case SENIOR -> Role.SENIOR;
+            default -> throw new IllegalStateException("No role for push target: " + this);
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.solicare.app.backend.domain.enums;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/** 센서 통계 롤업 단위. 이름은 MariaDB TIMESTAMPDIFF/TIMESTAMPADD 의 단위로도 쓰입니다. */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public enum RollupResolution {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    public LocalDateTime truncate(LocalDateTime timestamp) {
+        return timestamp.truncatedTo(unit);
+    }
+
+    /** [from, to) 구간을 이 단위로 나눴을 때의 버킷 수 */
+    public long bucketCount(LocalDateTime from, LocalDateTime to) {
+        return unit.between(truncate(from), to.minusNanos(1)) + 1;
+    }
+
+    /** 버킷이 maxBuckets 개를 넘지 않는 가장 세밀한 단위 */
+    public static RollupResolution forRange(LocalDateTime from, LocalDateTime to, int maxBuckets) {
+        for (RollupResolution resolution : values()) {
+            if (resolution.bucketCount(from, to) <= maxBuckets) {
+                return resolution;
+            }
+        }
+        return DAY;
+    }
+}
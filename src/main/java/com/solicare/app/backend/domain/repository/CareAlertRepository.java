@@ -1,10 +1,14 @@
 package com.solicare.app.backend.domain.repository;
 
+import com.solicare.app.backend.domain.dto.care.CareAlertBriefRow;
 import com.solicare.app.backend.domain.entity.CareAlert;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,12 +16,67 @@ import java.util.Optional;
 public interface CareAlertRepository extends JpaRepository<CareAlert, String> {
     Optional<CareAlert> findByUuid(String uuid);
 
-    List<CareAlert> findTop5BySenior_UuidAndIsDismissedIsFalseOrderByTimestampDesc(
-            String seniorUuid);
+    Optional<CareAlert> findByUuidAndSenior_Uuid(String uuid, String seniorUuid);
+
+    boolean existsByUuidAndSenior_Uuid(String uuid, String seniorUuid);
+
+    // 읽음/해제 전이는 조건부 update 로 처리하여, 동시에 요청되어도 카운터를 한 번만 줄인다.
+    // *Unread 는 읽지 않았고 해제되지 않은 알림에만 적용되며, 1 을 반환하면 카운터를 줄여야 한다
+    @Modifying
+    @Query(
+            """
+            update CareAlert a set a.isRead = true
+            where a.uuid = :uuid and a.senior.uuid = :seniorUuid
+                and a.isRead = false and a.isDismissed = false
+            """)
+    int markReadIfUnread(@Param("uuid") String uuid, @Param("seniorUuid") String seniorUuid);
+
+    @Modifying
+    @Query(
+            """
+            update CareAlert a set a.isRead = true
+            where a.uuid = :uuid and a.senior.uuid = :seniorUuid and a.isRead = false
+            """)
+    int markRead(@Param("uuid") String uuid, @Param("seniorUuid") String seniorUuid);
 
-    Page<CareAlert> findAllBySenior_Uuid(String seniorUuid, Pageable pageable);
+    @Modifying
+    @Query(
+            """
+            update CareAlert a set a.isDismissed = true
+            where a.uuid = :uuid and a.senior.uuid = :seniorUuid
+                and a.isDismissed = false and a.isRead = false
+            """)
+    int dismissIfUnread(@Param("uuid") String uuid, @Param("seniorUuid") String seniorUuid);
+
+    @Modifying
+    @Query(
+            """
+            update CareAlert a set a.isDismissed = true
+            where a.uuid = :uuid and a.senior.uuid = :seniorUuid and a.isDismissed = false
+            """)
+    int dismiss(@Param("uuid") String uuid, @Param("seniorUuid") String seniorUuid);
+
+    @Modifying
+    @Query(
+            """
+            update CareAlert a
+            set a.mediumImageHash = :mediumHash, a.mediumImageSize = :mediumSize,
+                a.thumbnailImageHash = :thumbnailHash, a.thumbnailImageSize = :thumbnailSize
+            where a.uuid = :uuid
+            """)
+    int updateImageVariants(
+            @Param("uuid") String uuid,
+            @Param("mediumHash") String mediumHash,
+            @Param("mediumSize") long mediumSize,
+            @Param("thumbnailHash") String thumbnailHash,
+            @Param("thumbnailSize") long thumbnailSize);
+
+    // 목록 조회는 CareAlertBriefRow 로 필요한 컬럼만 조회한다
+    List<CareAlertBriefRow> findTop5BySenior_UuidAndIsDismissedIsFalseOrderByTimestampDesc(
+            String seniorUuid);
 
-    Page<CareAlert> findBySenior_UuidAndIsDismissedIsFalse(String seniorUuid, Pageable pageable);
+    Page<CareAlertBriefRow> findAllBySenior_Uuid(String seniorUuid, Pageable pageable);
 
-    long countBySenior_UuidAndIsReadFalseAndIsDismissedIsFalse(String seniorUuid);
+    Page<CareAlertBriefRow> findBySenior_UuidAndIsDismissedIsFalse(
+            String seniorUuid, Pageable pageable);
 }
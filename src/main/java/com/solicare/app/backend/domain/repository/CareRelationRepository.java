@@ -1,10 +1,13 @@
 package com.solicare.app.backend.domain.repository;
 
+import com.solicare.app.backend.domain.dto.care.SeniorBriefRow;
 import com.solicare.app.backend.domain.entity.Care;
 import com.solicare.app.backend.domain.entity.Member;
 import com.solicare.app.backend.domain.entity.Senior;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -14,4 +17,23 @@ public interface CareRelationRepository extends JpaRepository<Care, String> {
     List<Care> findBySeniorOrderByMember_NameAsc(Senior senior);
 
     boolean existsByMemberAndSenior(Member member, Senior senior);
+
+    @Query("select c.senior.uuid from Care c where c.member.uuid = :memberUuid")
+    List<String> findSeniorUuidsByMemberUuid(@Param("memberUuid") String memberUuid);
+
+    // 읽지 않은 알림 수를 카운터 테이블과 조인하여 한 번에 조회한다. 카운터가 아직 없으면 0 이다
+    @Query(
+            """
+            select new com.solicare.app.backend.domain.dto.care.SeniorBriefRow(
+                s.uuid, s.name, s.age, s.gender, coalesce(counter.unreadCount, 0L))
+            from Care c
+            join c.senior s
+            left join SeniorAlertCounter counter on counter.seniorUuid = s.uuid
+            where c.member.uuid = :memberUuid
+            order by s.name asc
+            """)
+    List<SeniorBriefRow> findSeniorBriefsByMemberUuid(@Param("memberUuid") String memberUuid);
+
+    @Query("select distinct c.senior.uuid from Care c")
+    List<String> findAllSeniorUuids();
 }
@@ -1,10 +1,16 @@
 package com.solicare.app.backend.domain.repository;
 
+import com.solicare.app.backend.domain.dto.push.PushTargetDevice;
 import com.solicare.app.backend.domain.entity.Device;
 import com.solicare.app.backend.domain.enums.PushMethod;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,7 +25,21 @@ public interface DeviceRepository extends JpaRepository<Device, String> {
 
     List<Device> findBySenior_Uuid(String seniorUuid);
 
+    @Query(
+            "select new com.solicare.app.backend.domain.dto.push.PushTargetDevice("
+                    + "d.uuid, d.pushMethod, d.token)"
+                    + " from Care c join c.member m join m.devices d"
+                    + " where c.senior.uuid = :seniorUuid")
+    List<PushTargetDevice> findCaregiverDevicesBySeniorUuid(@Param("seniorUuid") String seniorUuid);
+
     boolean existsByPushMethodAndToken(PushMethod method, String token);
 
     void deleteByPushMethodAndToken(PushMethod method, String token);
+
+    // 보고된 뒤 토큰이 갱신된 디바이스는 남도록 토큰도 함께 비교한다
+    @Transactional
+    @Modifying
+    @Query("delete from Device d where d.uuid in :uuids and d.token in :tokens")
+    int deleteByUuidInAndTokenIn(
+            @Param("uuids") Collection<String> uuids, @Param("tokens") Collection<String> tokens);
 }
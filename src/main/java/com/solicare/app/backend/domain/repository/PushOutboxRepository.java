@@ -0,0 +1,49 @@
+package com.solicare.app.backend.domain.repository;
+
+import com.solicare.app.backend.application.enums.PushChannel;
+import com.solicare.app.backend.domain.dto.push.PushLaneBacklog;
+import com.solicare.app.backend.domain.entity.PushOutbox;
+import com.solicare.app.backend.domain.enums.PushOutboxStatus;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PushOutboxRepository extends JpaRepository<PushOutbox, String> {
+    // lock.timeout = -2 : SKIP LOCKED (여러 인스턴스가 같은 행을 동시에 가져가지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query(
+            "select o from PushOutbox o"
+                    + " where o.status in :statuses and o.channel = :channel"
+                    + " and o.nextAttemptAt <= :now"
+                    + " order by o.nextAttemptAt asc")
+    List<PushOutbox> findDispatchable(
+            @Param("statuses") Collection<PushOutboxStatus> statuses,
+            @Param("channel") PushChannel channel,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    @Query(
+            "select new com.solicare.app.backend.domain.dto.push.PushLaneBacklog("
+                    + "o.channel, count(o), min(o.nextAttemptAt))"
+                    + " from PushOutbox o"
+                    + " where o.status in :statuses and o.nextAttemptAt <= :now"
+                    + " group by o.channel")
+    List<PushLaneBacklog> findBacklogs(
+            @Param("statuses") Collection<PushOutboxStatus> statuses,
+            @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from PushOutbox o where o.status in :statuses and o.createdAt < :before")
+    int deleteFinishedBefore(
+            @Param("statuses") Collection<PushOutboxStatus> statuses,
+            @Param("before") LocalDateTime before);
+}
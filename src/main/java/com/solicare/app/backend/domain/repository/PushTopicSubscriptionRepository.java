@@ -0,0 +1,16 @@
+package com.solicare.app.backend.domain.repository;
+
+import com.solicare.app.backend.domain.entity.PushTopicSubscription;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface PushTopicSubscriptionRepository
+        extends JpaRepository<PushTopicSubscription, String> {
+    List<PushTopicSubscription> findBySeniorUuid(String seniorUuid);
+
+    @Query("select distinct s.seniorUuid from PushTopicSubscription s")
+    List<String> findAllSeniorUuids();
+}
@@ -3,7 +3,9 @@ package com.solicare.app.backend.domain.repository;
 import com.solicare.app.backend.domain.entity.Senior;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface SeniorRepository extends JpaRepository<Senior, String> {
@@ -16,4 +18,7 @@ public interface SeniorRepository extends JpaRepository<Senior, String> {
     boolean existsByUserId(String userId);
 
     boolean existsByPhoneNumber(String phoneNumber);
+
+    @Query("select s.uuid from Senior s where s.monitored = true")
+    List<String> findMonitoredUuids();
 }
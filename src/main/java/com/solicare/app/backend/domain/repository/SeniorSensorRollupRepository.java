@@ -0,0 +1,24 @@
+package com.solicare.app.backend.domain.repository;
+
+import com.solicare.app.backend.domain.entity.SeniorSensorRollup;
+import com.solicare.app.backend.domain.enums.RollupResolution;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SeniorSensorRollupRepository extends JpaRepository<SeniorSensorRollup, String> {
+    @Query(
+            "select r from SeniorSensorRollup r"
+                    + " where r.seniorUuid = :seniorUuid and r.resolution = :resolution"
+                    + " and r.bucketStart >= :from and r.bucketStart < :to"
+                    + " order by r.bucketStart asc")
+    List<SeniorSensorRollup> findRange(
+            @Param("seniorUuid") String seniorUuid,
+            @Param("resolution") RollupResolution resolution,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+}
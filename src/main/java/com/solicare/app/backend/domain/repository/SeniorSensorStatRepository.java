@@ -1,22 +1,58 @@
 package com.solicare.app.backend.domain.repository;
 
+import com.solicare.app.backend.domain.dto.care.SensorStatExportRow;
 import com.solicare.app.backend.domain.entity.SeniorSensorStat;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface SeniorSensorStatRepository extends JpaRepository<SeniorSensorStat, String> {
-    Optional<SeniorSensorStat> findTopBySenior_UuidOrderByTimestampDesc(String seniorUuid);
-
     List<SeniorSensorStat> findTop20BySenior_UuidOrderByTimestampDesc(String seniorUuid);
 
-    Slice<SeniorSensorStat> findBySenior_Uuid(String seniorUuid, Pageable pageable);
+    /** keyset 첫 페이지. idx_senior_sensor_stat_keyset 을 역순으로 읽습니다. */
+    @Query(
+            "select s from SeniorSensorStat s where s.senior.uuid = :seniorUuid"
+                    + " order by s.timestamp desc, s.uuid desc")
+    List<SeniorSensorStat> findHistory(
+            @Param("seniorUuid") String seniorUuid, Pageable pageable);
+
+    /** (timestamp, uuid) 가 커서보다 앞선 기록. 깊은 페이지도 인덱스 범위 탐색 한 번으로 읽습니다. */
+    @Query(
+            "select s from SeniorSensorStat s where s.senior.uuid = :seniorUuid"
+                    + " and s.timestamp <= :timestamp"
+                    + " and (s.timestamp < :timestamp or s.uuid < :uuid)"
+                    + " order by s.timestamp desc, s.uuid desc")
+    List<SeniorSensorStat> findHistoryBefore(
+            @Param("seniorUuid") String seniorUuid,
+            @Param("timestamp") LocalDateTime timestamp,
+            @Param("uuid") String uuid,
+            Pageable pageable);
 
-    Slice<SeniorSensorStat> findBySenior_UuidAndTimestampAfter(
-            String seniorUuid, Pageable pageable, LocalDateTime after);
+    /** 전방 전용 커서로 fetch size 만큼씩 읽습니다. 호출자의 트랜잭션 안에서 소비하고 닫아야 합니다. */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(
+            "select new com.solicare.app.backend.domain.dto.care.SensorStatExportRow("
+                    + "s.uuid, s.timestamp, s.cameraFallDetected, s.wearableFallDetected,"
+                    + " s.temperature, s.humidity, s.heartRate, s.wearableBattery)"
+                    + " from SeniorSensorStat s"
+                    + " where s.senior.uuid = :seniorUuid"
+                    + " and s.timestamp >= :from and s.timestamp < :to"
+                    + " order by s.timestamp asc, s.uuid asc")
+    Stream<SensorStatExportRow> streamForExport(
+            @Param("seniorUuid") String seniorUuid,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,140 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.domain.dto.care.AlertImage;
+import com.solicare.app.backend.global.jpa.BinaryUuidType;
+
+import jakarta.persistence.EntityManager;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 예전 버전이 care_alert.base64_image (LONGTEXT) 에 저장한 이미지를 블롭 저장소로 옮깁니다. 기동 후 백그라운드에서 한 번
+ * 실행되며, 옮긴 행의 base64_image 는 비웁니다. 모두 옮긴 뒤에는 컬럼을 삭제해도 됩니다.
+ *
+ * <p>이미지를 저장하지 못한 행은 경고를 남기고 건너뛰어 다음 기동에서 다시 시도합니다. Base64 로 디코딩할 수 없는 행도 지우지 않고
+ * 경고만 남기므로, 직접 확인한 뒤 고치거나 비울 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class AlertImageMigration {
+    // 한 행이 수 MB 일 수 있으므로 작게 나눈다
+    private static final int BATCH_SIZE = 20;
+    private static final String COLUMN_EXISTS_SQL =
+            """
+            select count(*) from information_schema.columns
+            where table_schema = database() and table_name = 'care_alert'
+                and column_name = 'base64_image'
+            """;
+    // 건너뛴 행을 다시 읽지 않도록 uuid 순으로 넘어간다
+    private static final String SELECT_SQL =
+            """
+            select uuid, base64_image from care_alert
+            where base64_image is not null and uuid > :after
+            order by uuid limit %d
+            """
+                    .formatted(BATCH_SIZE);
+    private static final String UPDATE_SQL =
+            """
+            update care_alert
+            set image_hash = :hash, image_content_type = :contentType, base64_image = null
+            where uuid = :uuid
+            """;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final AlertImageStore alertImageStore;
+
+    @Value("${alert.image.migrate-legacy:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            Thread.ofVirtual().name("alert-image-migration").start(this::migrate);
+        }
+    }
+
+    private void migrate() {
+        long migrated = 0;
+        try {
+            if (!hasLegacyColumn()) {
+                // 새로 만든 DB 에는 base64_image 컬럼이 없다
+                log.debug("Skipped legacy alert image migration: no base64_image column");
+                return;
+            }
+            Batch batch = new Batch(new byte[16], 0, 0);
+            do {
+                byte[] after = batch.last();
+                batch = transactionTemplate.execute(status -> migrateBatch(after));
+                migrated += batch.moved();
+            } while (batch.read() > 0);
+        } catch (Exception e) {
+            log.warn("Legacy alert image migration stopped: {}", e.getMessage());
+        }
+        if (migrated > 0) {
+            log.info("Moved {} legacy alert images to the blob store", migrated);
+        }
+    }
+
+    private record Batch(byte[] last, int read, int moved) {}
+
+    private boolean hasLegacyColumn() {
+        Number count =
+                (Number) entityManager.createNativeQuery(COLUMN_EXISTS_SQL).getSingleResult();
+        return count.intValue() > 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Batch migrateBatch(byte[] after) {
+        List<Object[]> rows =
+                entityManager
+                        .createNativeQuery(SELECT_SQL)
+                        .setParameter("after", after)
+                        .getResultList();
+        byte[] last = after;
+        int moved = 0;
+        for (Object[] row : rows) {
+            last = (byte[]) row[0];
+            String alertUuid = BinaryUuidType.fromBytes(last);
+            AlertImage image;
+            try {
+                image = alertImageStore.putBase64((String) row[1]);
+            } catch (IllegalArgumentException e) {
+                log.warn(
+                        "Left undecodable legacy image of alert {} in place: {}",
+                        alertUuid,
+                        e.getMessage());
+                continue;
+            } catch (IOException e) {
+                log.warn(
+                        "Failed to store legacy image of alert {}: {}", alertUuid, e.getMessage());
+                continue;
+            }
+            try {
+                entityManager
+                        .createNativeQuery(UPDATE_SQL)
+                        .setParameter("hash", image.hash())
+                        .setParameter("contentType", image.contentType())
+                        .setParameter("uuid", row[0])
+                        .executeUpdate();
+            } catch (RuntimeException e) {
+                throw new IllegalStateException(
+                        "Failed to update alert " + alertUuid + ": " + e.getMessage(), e);
+            }
+            moved++;
+        }
+        return new Batch(last, rows.size(), moved);
+    }
+}
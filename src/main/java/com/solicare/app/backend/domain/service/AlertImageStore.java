@@ -0,0 +1,302 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.domain.dto.care.AlertImage;
+import com.solicare.app.backend.domain.dto.care.StagedImage;
+
+import jakarta.annotation.PostConstruct;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 알림 이미지를 내용 해시 (SHA-256) 로 이름 붙인 파일로 저장하는 로컬 블롭 저장소. 한 디렉터리에 파일이 몰리지 않도록 해시 앞 두
+ * 바이트로 {@code ab/cd/abcd...} 처럼 나누어 저장하고, 같은 이미지는 한 번만 저장합니다.
+ *
+ * <p>알림 행에는 해시와 Content-Type 만 남기므로, 알림을 조회할 때 이미지가 JDBC 와 힙을 거치지 않습니다. 업로드는 해시를 계산하며
+ * staging 디렉터리의 임시 파일에 스트리밍으로 받고 ({@link #stage}), 알림 저장이 커밋된 뒤에 이름을 바꾸어 옮기므로
+ * ({@link #commitAfterTransaction}) 이미지 전체를 메모리에 올리지 않으며 읽는 쪽이 쓰다 만 파일을 보지 않습니다.
+ */
+@Slf4j
+@Component
+public class AlertImageStore {
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final int SNIFF_BYTES = 12;
+
+    private final Path root;
+    private final Path staging;
+    private final long maxBytes;
+
+    public AlertImageStore(
+            @Value("${alert.image.dir:./data/alert-images}") String dir,
+            @Value("${alert.image.max-bytes:10485760}") long maxBytes) {
+        this.root = Path.of(dir).toAbsolutePath().normalize();
+        // 이름 바꾸기가 원자적이도록 같은 파일 시스템에 둔다. 해시 디렉터리 이름 (hex 2자) 과 겹치지 않는다
+        this.staging = root.resolve("staging");
+        this.maxBytes = maxBytes;
+    }
+
+    /** 임시 파일에 이미지를 쓰는 작업 */
+    @FunctionalInterface
+    public interface ImageWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /** 이미 파일로 받아 둔 이미지를 주어진 경로로 옮기는 작업 */
+    @FunctionalInterface
+    public interface ImageTransfer {
+        void transferTo(Path target) throws IOException;
+    }
+
+    /** 업로드 임시 파일을 이 디렉터리에 받으면 {@link #stageFile} 가 복사 없이 이름만 바꿉니다. */
+    public Path getStagingDirectory() {
+        return staging;
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        Files.createDirectories(staging);
+        // 이전 실행에서 옮겨지지 않은 임시 파일
+        try (Stream<Path> files = Files.list(staging)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * 이미지를 임시 파일에 스트리밍으로 받으면서 SHA-256 을 계산합니다.
+     *
+     * @throws IllegalArgumentException 이미지가 {@code alert.image.max-bytes} 보다 큰 경우
+     */
+    public StagedImage stage(ImageWriter writer) throws IOException {
+        Path temp = Files.createTempFile(staging, "upload-", ".tmp");
+        MessageDigest digest = sha256();
+        try (SizeLimitedOutputStream out =
+                new SizeLimitedOutputStream(
+                        new DigestOutputStream(
+                                new BufferedOutputStream(Files.newOutputStream(temp)), digest),
+                        maxBytes)) {
+            writer.writeTo(out);
+            out.flush();
+            return new StagedImage(temp, HexFormat.of().formatHex(digest.digest()), out.written);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * 컨테이너가 파일로 받아 둔 업로드를 staging 디렉터리로 옮긴 뒤 SHA-256 을 계산합니다. 같은 파일 시스템이면 이름만 바뀌므로
+     * 이미지를 다시 쓰지 않고 한 번 읽기만 합니다.
+     *
+     * @throws IllegalArgumentException 이미지가 {@code alert.image.max-bytes} 보다 큰 경우
+     */
+    public StagedImage stageFile(ImageTransfer transfer) throws IOException {
+        Path temp = staging.resolve("upload-" + UUID.randomUUID() + ".tmp");
+        try {
+            transfer.transferTo(temp);
+            long size = Files.size(temp);
+            if (size > maxBytes) {
+                throw new IllegalArgumentException(
+                        "이미지는 최대 " + maxBytes + " bytes 까지 업로드할 수 있습니다.");
+            }
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(Files.newInputStream(temp), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return new StagedImage(temp, HexFormat.of().formatHex(digest.digest()), size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /** 임시 파일을 내용 해시 경로로 옮깁니다. 같은 이미지가 이미 있으면 임시 파일만 지웁니다. */
+    public AlertImage commit(StagedImage staged) throws IOException {
+        Path target = pathOf(staged.hash());
+        if (Files.exists(target)) {
+            Files.deleteIfExists(staged.path());
+        } else {
+            Files.createDirectories(target.getParent());
+            // 같은 이미지를 동시에 저장해도 내용이 같으므로 덮어써도 된다
+            Files.move(
+                    staged.path(),
+                    target,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            log.debug("Stored alert image {} ({} bytes)", staged.hash(), staged.size());
+        }
+        return new AlertImage(staged.hash(), detectContentType(target), target);
+    }
+
+    /**
+     * 알림 저장 트랜잭션이 커밋된 뒤에 임시 파일을 저장소로 옮깁니다. 롤백되면 옮기지 않으므로 알림 없는 블롭이 남지 않습니다. 트랜잭션
+     * 밖이면 바로 옮깁니다. 반환하는 이미지의 path 는 옮겨질 경로입니다.
+     */
+    public AlertImage commitAfterTransaction(StagedImage staged) throws IOException {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return commit(staged);
+        }
+        AlertImage image =
+                new AlertImage(
+                        staged.hash(), detectContentType(staged.path()), pathOf(staged.hash()));
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        try {
+                            commit(staged);
+                        } catch (IOException e) {
+                            log.error(
+                                    "Failed to store alert image {}: {}",
+                                    staged.hash(),
+                                    e.getMessage());
+                        }
+                    }
+                });
+        return image;
+    }
+
+    /** 트랜잭션이 끝난 뒤에 (롤백 포함) 남은 임시 파일을 지웁니다. 트랜잭션 밖이면 바로 지웁니다. */
+    public void discardAfterTransaction(StagedImage staged) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            discard(staged);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        discard(staged);
+                    }
+                });
+    }
+
+    /** 저장소로 옮기지 않은 임시 파일을 지웁니다. 이미 옮겼으면 아무것도 하지 않습니다. */
+    public void discard(StagedImage staged) {
+        try {
+            Files.deleteIfExists(staged.path());
+        } catch (IOException e) {
+            log.warn("Failed to delete staged alert image {}: {}", staged.path(), e.getMessage());
+        }
+    }
+
+    /**
+     * Base64 (data URI 허용) 이미지를 디코딩하여 저장합니다. Content-Type 은 data URI 에 적힌 값이 아니라 이미지의 매직 바이트로
+     * 판별합니다.
+     *
+     * @throws IllegalArgumentException Base64 형식이 아닌 경우
+     */
+    public AlertImage putBase64(String base64Image) throws IOException {
+        int comma = base64Image.startsWith("data:") ? base64Image.indexOf(',') : -1;
+        byte[] bytes = Base64.getMimeDecoder().decode(base64Image.substring(comma + 1));
+        return commit(stage(out -> out.write(bytes)));
+    }
+
+    /** 해시에 해당하는 파일. 해시 형식이 아니면 경로를 만들지 않고 빈 값을 반환합니다. */
+    public Optional<Path> find(String hash) {
+        if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+        Path path = pathOf(hash);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    private Path pathOf(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String detectContentType(Path path) throws IOException {
+        byte[] bytes;
+        try (InputStream in = Files.newInputStream(path)) {
+            bytes = in.readNBytes(SNIFF_BYTES);
+        }
+        if (startsWith(bytes, 0, 0x89, 'P', 'N', 'G')) {
+            return "image/png";
+        }
+        if (startsWith(bytes, 0, 0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+        if (startsWith(bytes, 0, 'G', 'I', 'F', '8')) {
+            return "image/gif";
+        }
+        if (startsWith(bytes, 0, 'R', 'I', 'F', 'F') && startsWith(bytes, 8, 'W', 'E', 'B', 'P')) {
+            return "image/webp";
+        }
+        return DEFAULT_CONTENT_TYPE;
+    }
+
+    private static boolean startsWith(byte[] bytes, int offset, int... magic) {
+        if (bytes.length < offset + magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if ((bytes[offset + i] & 0xFF) != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class SizeLimitedOutputStream extends FilterOutputStream {
+        private final long limit;
+        private long written;
+
+        private SizeLimitedOutputStream(OutputStream out, long limit) {
+            super(out);
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureCapacity(1);
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ensureCapacity(len);
+            out.write(b, off, len);
+        }
+
+        private void ensureCapacity(int len) {
+            written += len;
+            if (written > limit) {
+                throw new IllegalArgumentException(
+                        "이미지는 최대 " + limit + " bytes 까지 업로드할 수 있습니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.domain.dto.care.AlertImage;
+import com.solicare.app.backend.domain.dto.care.StagedImage;
+import com.solicare.app.backend.domain.enums.AlertImageVariant;
+import com.solicare.app.backend.domain.repository.CareAlertRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+/**
+ * 알림 이미지의 축소본 (중간 크기, 썸네일) 을 백그라운드에서 만듭니다. 알림 저장이 커밋된 뒤 크기가 제한된 큐에 넣기만 하므로 알림 등록
+ * 지연에는 영향이 없습니다. 큐가 가득 차면 해당 알림은 건너뛰고 원본만 제공합니다.
+ *
+ * <p>축소본은 원본과 같은 블롭 저장소에 저장하고, 해시와 크기를 알림에 기록합니다.
+ */
+@Slf4j
+@Component
+public class AlertImageVariantProcessor {
+    // 디코딩하면 픽셀당 4 bytes 이므로, 이보다 큰 이미지는 메모리 보호를 위해 변환하지 않는다
+    private static final long MAX_SOURCE_PIXELS = 40_000_000L;
+
+    private final AlertImageStore alertImageStore;
+    private final CareAlertRepository careAlertRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final Counter skipped;
+
+    public AlertImageVariantProcessor(
+            AlertImageStore alertImageStore,
+            CareAlertRepository careAlertRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${alert.image.variants.threads:2}") int threads,
+            @Value("${alert.image.variants.queue-capacity:200}") int queueCapacity) {
+        this.alertImageStore = alertImageStore;
+        this.careAlertRepository = careAlertRepository;
+        this.transactionTemplate = transactionTemplate;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "alert-image-variants-" + sequence.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        Gauge.builder("alert.image.variants.queue", executor, e -> e.getQueue().size())
+                .description("Alert images waiting for variant generation")
+                .register(meterRegistry);
+        this.skipped =
+                Counter.builder("alert.image.variants.skipped")
+                        .description("Alert images skipped because the variant queue was full")
+                        .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /** 알림 저장이 커밋된 뒤에 축소본 생성을 예약합니다. 트랜잭션 밖이면 바로 예약합니다. */
+    public void onAlertSaved(String alertUuid, AlertImage image) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(alertUuid, image);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        submit(alertUuid, image);
+                    }
+                });
+    }
+
+    private void submit(String alertUuid, AlertImage image) {
+        try {
+            executor.execute(() -> process(alertUuid, image));
+        } catch (RejectedExecutionException e) {
+            skipped.increment();
+            log.warn("Skipped image variants for alert {}: queue is full", alertUuid);
+        }
+    }
+
+    private void process(String alertUuid, AlertImage image) {
+        try {
+            BufferedImage source = read(image);
+            if (source == null) {
+                log.debug("Skipped image variants for alert {}: unsupported image", alertUuid);
+                return;
+            }
+            StagedImage medium = writeVariant(source, AlertImageVariant.MEDIUM);
+            StagedImage thumbnail = writeVariant(source, AlertImageVariant.THUMBNAIL);
+            transactionTemplate.executeWithoutResult(
+                    status ->
+                            careAlertRepository.updateImageVariants(
+                                    alertUuid,
+                                    medium.hash(),
+                                    medium.size(),
+                                    thumbnail.hash(),
+                                    thumbnail.size()));
+        } catch (Exception e) {
+            log.warn("Failed to create image variants for alert {}: {}", alertUuid, e.getMessage());
+        }
+    }
+
+    private static BufferedImage read(AlertImage image) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(image.path().toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_SOURCE_PIXELS) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private StagedImage writeVariant(BufferedImage source, AlertImageVariant variant)
+            throws IOException {
+        BufferedImage scaled = resize(source, variant.getMaxEdge());
+        StagedImage staged =
+                alertImageStore.stage(out -> writeJpeg(scaled, variant.getJpegQuality(), out));
+        alertImageStore.commit(staged);
+        return staged;
+    }
+
+    private static BufferedImage resize(BufferedImage source, int maxEdge) {
+        double scale =
+                Math.min(1.0, (double) maxEdge / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        // 한 번에 크게 줄이면 bilinear 보간에서 계단 현상이 생기므로 절반씩 줄인다
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            current = draw(current, currentWidth, currentHeight);
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(
+                    RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            // JPEG 에는 알파 채널이 없으므로 투명한 영역은 흰색으로 채운다
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static void writeJpeg(BufferedImage image, float quality, OutputStream out)
+            throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+        // 디스크 캐시 파일을 만들지 않도록 메모리 캐시 스트림을 쓴다
+        try (MemoryCacheImageOutputStream imageOut = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
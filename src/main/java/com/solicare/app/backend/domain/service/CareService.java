@@ -2,6 +2,7 @@ package com.solicare.app.backend.domain.service;
 
 import com.solicare.app.backend.application.dto.request.CareRequestDTO.PostCareAlert;
 import com.solicare.app.backend.application.dto.request.CareRequestDTO.PostSensorStat;
+import com.solicare.app.backend.application.dto.request.CareRequestDTO.PostSensorStatBatch;
 import com.solicare.app.backend.application.dto.request.MemberRequestDTO;
 import com.solicare.app.backend.application.dto.request.SeniorRequestDTO;
 import com.solicare.app.backend.application.dto.res.CareResponseDTO;
@@ -12,24 +13,41 @@ import com.solicare.app.backend.application.mapper.CareMapper;
 import com.solicare.app.backend.application.mapper.SeniorMapper;
 import com.solicare.app.backend.domain.dto.BasicServiceResult;
 import com.solicare.app.backend.domain.dto.ServiceResult;
+import com.solicare.app.backend.domain.dto.care.AlertImage;
 import com.solicare.app.backend.domain.dto.care.CareLinkResult;
 import com.solicare.app.backend.domain.dto.care.CareQueryResult;
+import com.solicare.app.backend.domain.dto.care.SensorStatCursor;
+import com.solicare.app.backend.domain.dto.care.StagedImage;
 import com.solicare.app.backend.domain.entity.*;
-import com.solicare.app.backend.domain.enums.Role;
+import com.solicare.app.backend.domain.enums.AlertImageVariant;
+import com.solicare.app.backend.domain.enums.MonitoredDevice;
+import com.solicare.app.backend.domain.enums.PushTarget;
+import com.solicare.app.backend.domain.enums.RollupResolution;
+import com.solicare.app.backend.domain.enums.StatExportFormat;
 import com.solicare.app.backend.domain.repository.CareAlertRepository;
 import com.solicare.app.backend.domain.repository.CareRelationRepository;
 import com.solicare.app.backend.domain.repository.MemberRepository;
 import com.solicare.app.backend.domain.repository.SeniorRepository;
+import com.solicare.app.backend.domain.repository.SeniorSensorRollupRepository;
 import com.solicare.app.backend.domain.repository.SeniorSensorStatRepository;
+import com.solicare.app.backend.global.res.ApiStatus;
 
 import jakarta.transaction.Transactional;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -38,15 +56,38 @@ import java.util.Optional;
 @Transactional
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class CareService {
+    private static final int MAX_HISTORY_PAGE_SIZE = 200;
+    // MariaDB DATETIME 범위 안의 기본 내보내기 구간
+    private static final LocalDateTime EXPORT_MIN_TIMESTAMP = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime EXPORT_MAX_TIMESTAMP = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final PasswordEncoder passwordEncoder;
     private final MemberRepository memberRepository;
     private final SeniorRepository seniorRepository;
     private final CareAlertRepository careAlertRepository;
     private final CareRelationRepository careRelationRepository;
     private final SeniorSensorStatRepository seniorSensorStatRepository;
+    private final SeniorSensorRollupRepository seniorSensorRollupRepository;
     private final CareMapper careMapper;
     private final SeniorMapper seniorMapper;
-    private final PushService pushService;
+    private final PushOutboxService pushOutboxService;
+    private final PushTopicReconciler pushTopicReconciler;
+    private final SensorStatWriter sensorStatWriter;
+    private final SensorIngestBuffer sensorIngestBuffer;
+    private final SensorRollupService sensorRollupService;
+    private final SeniorRecentStatCache seniorRecentStatCache;
+    private final SensorStatExporter sensorStatExporter;
+    private final VitalSignMonitor vitalSignMonitor;
+    private final SeniorLivenessWheel seniorLivenessWheel;
+    private final AlertImageStore alertImageStore;
+    private final AlertImageVariantProcessor alertImageVariantProcessor;
+    private final SeniorAlertCounterService seniorAlertCounterService;
+
+    @Value("${sensor.ingest.write-behind:true}")
+    private boolean sensorWriteBehind;
+
+    @Value("${sensor.rollup.max-buckets:1500}")
+    private int maxRollupBuckets;
 
     public BasicServiceResult<Boolean> hasMemberAccessToSenior(
             String memberUuid, String seniorUuid) {
@@ -69,22 +110,12 @@ public class CareService {
     public CareQueryResult<List<CareResponseDTO.SeniorBrief>> querySeniorByMember(
             String memberUuid) {
         try {
-            Member member =
-                    memberRepository
-                            .findByUuid(memberUuid)
-                            .orElseThrow(() -> new IllegalArgumentException("MEMBER_NOT_FOUND"));
+            if (!memberRepository.existsByUuid(memberUuid)) {
+                throw new IllegalArgumentException("MEMBER_NOT_FOUND");
+            }
             List<CareResponseDTO.SeniorBrief> seniorBriefs =
-                    careRelationRepository.findByMemberOrderBySenior_NameAsc(member).stream()
-                            .map(
-                                    care -> {
-                                        Senior senior = care.getSenior();
-                                        long unreadAlertCount =
-                                                careAlertRepository
-                                                        .countBySenior_UuidAndIsReadFalseAndIsDismissedIsFalse(
-                                                                senior.getUuid());
-                                        return careMapper.toSeniorBriefDTO(
-                                                senior, unreadAlertCount);
-                                    })
+                    careRelationRepository.findSeniorBriefsByMemberUuid(memberUuid).stream()
+                            .map(careMapper::toSeniorBriefDTO)
                             .toList();
             return CareQueryResult.of(CareQueryResult.Status.SUCCESS, seniorBriefs, null);
         } catch (Exception e) {
@@ -132,9 +163,10 @@ public class CareService {
                 return CareLinkResult.of(CareLinkResult.Status.INVALID_SENIOR_PASSWORD, null, null);
             }
             careRelationRepository.save(Care.builder().member(member).senior(senior).build());
+            pushTopicReconciler.onCareChanged(senior.getUuid());
 
-            pushService.pushBatch(
-                    Role.MEMBER,
+            pushOutboxService.enqueue(
+                    PushTarget.MEMBER,
                     memberUuid,
                     PushChannel.INFO,
                     "새로운 모니터링 대상",
@@ -167,8 +199,9 @@ public class CareService {
                 return CareLinkResult.of(CareLinkResult.Status.INVALID_MEMBER_PASSWORD, null, null);
             }
             careRelationRepository.save(Care.builder().member(member).senior(senior).build());
-            pushService.pushBatch(
-                    Role.SENIOR,
+            pushTopicReconciler.onCareChanged(senior.getUuid());
+            pushOutboxService.enqueue(
+                    PushTarget.SENIOR,
                     senior.getUuid(),
                     PushChannel.INFO,
                     "새로운 보호자 등록",
@@ -197,6 +230,7 @@ public class CareService {
         }
         senior.setMonitored(monitored);
         seniorRepository.save(senior);
+        seniorLivenessWheel.onMonitoringChanged(seniorUuid, monitored);
         return BasicServiceResult.of(ServiceResult.GenericStatus.SUCCESS, null, null);
     }
 
@@ -207,16 +241,223 @@ public class CareService {
                     seniorRepository
                             .findByUuid(seniorUuid)
                             .orElseThrow(() -> new IllegalArgumentException("SENIOR_NOT_FOUND"));
-            SeniorSensorStat stat = careMapper.toEntity(dto, senior);
+            SeniorSensorStat stat =
+                    seniorSensorStatRepository.save(careMapper.toEntity(dto, senior));
+            sensorRollupService.accumulate(List.of(stat));
+            seniorRecentStatCache.onStatsSaved(List.of(stat));
+            vitalSignMonitor.onStatsSaved(List.of(stat));
+            seniorLivenessWheel.onStatsSaved(List.of(stat));
+            return BasicServiceResult.of(
+                    ServiceResult.GenericStatus.SUCCESS, careMapper.toStatBrief(stat), null);
+        } catch (Exception e) {
+            return BasicServiceResult.of(ServiceResult.GenericStatus.ERROR, null, e);
+        }
+    }
+
+    /**
+     * 시니어는 한 번만 확인하고, 모든 측정값을 한 트랜잭션에서 JDBC batch insert 로 저장합니다. write-behind 가 켜져 있으면
+     * 버퍼에 넣고 바로 _ACCEPTED 를 반환하며, 버퍼가 가득 차면 _TOO_MANY_REQUESTS 를 반환합니다.
+     */
+    public BasicServiceResult<CareResponseDTO.StatBatchAck> addSensorStats(
+            String seniorUuid, PostSensorStatBatch dto) {
+        try {
+            if (sensorWriteBehind) {
+                return bufferSensorStats(seniorUuid, dto);
+            }
+            Senior senior =
+                    seniorRepository
+                            .findByUuid(seniorUuid)
+                            .orElseThrow(() -> new IllegalArgumentException("SENIOR_NOT_FOUND"));
+            List<SeniorSensorStat> stats =
+                    dto.stats().stream().map(stat -> careMapper.toEntity(stat, senior)).toList();
+            sensorStatWriter.insertAll(stats);
+            return BasicServiceResult.of(
+                    ServiceResult.GenericStatus.SUCCESS, careMapper.toStatBatchAck(stats), null);
+        } catch (Exception e) {
+            return BasicServiceResult.of(ServiceResult.GenericStatus.ERROR, null, e);
+        }
+    }
+
+    /**
+     * 센서 기록을 최신순으로 size 건씩 조회합니다. (timestamp, uuid) keyset 커서로 다음 페이지를 읽으므로 offset 과 달리 깊은 페이지도
+     * 첫 페이지와 같은 비용이 듭니다.
+     */
+    public BasicServiceResult<CareResponseDTO.StatHistory> getSensorHistory(
+            String seniorUuid, String cursor, int size) {
+        size = Math.clamp(size, 1, MAX_HISTORY_PAGE_SIZE);
+        SensorStatCursor after;
+        try {
+            after = cursor == null || cursor.isBlank() ? null : SensorStatCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return BasicServiceResult.of(ApiStatus._BAD_REQUEST, "잘못된 커서입니다.", null, null);
+        }
+        try {
+            if (!seniorRepository.existsByUuid(seniorUuid)) {
+                return BasicServiceResult.of(ServiceResult.GenericStatus.NOT_FOUND, null, null);
+            }
+            // 다음 페이지가 있는지 알기 위해 한 건 더 읽는다
+            PageRequest page = PageRequest.of(0, size + 1);
+            List<SeniorSensorStat> stats =
+                    after == null
+                            ? seniorSensorStatRepository.findHistory(seniorUuid, page)
+                            : seniorSensorStatRepository.findHistoryBefore(
+                                    seniorUuid, after.timestamp(), after.uuid(), page);
+            boolean hasNext = stats.size() > size;
+            if (hasNext) {
+                stats = stats.subList(0, size);
+            }
+            SeniorSensorStat last = stats.isEmpty() ? null : stats.get(stats.size() - 1);
+            String nextCursor =
+                    hasNext
+                            ? new SensorStatCursor(last.getTimestamp(), last.getUuid()).encode()
+                            : null;
             return BasicServiceResult.of(
                     ServiceResult.GenericStatus.SUCCESS,
-                    careMapper.toStatBrief(seniorSensorStatRepository.save(stat)),
+                    new CareResponseDTO.StatHistory(
+                            stats.stream().map(careMapper::toStatDetail).toList(), nextCursor),
                     null);
         } catch (Exception e) {
             return BasicServiceResult.of(ServiceResult.GenericStatus.ERROR, null, e);
         }
     }
 
+    /** [from, to) 를 내보낼 수 있는지 확인합니다. 스트리밍을 시작한 뒤에는 오류 응답을 보낼 수 없으므로 먼저 확인합니다. */
+    public BasicServiceResult<Void> checkSensorExport(
+            String seniorUuid, LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            return BasicServiceResult.of(
+                    ApiStatus._BAD_REQUEST, "조회 시작 시각은 종료 시각보다 앞서야 합니다.", null, null);
+        }
+        if (!seniorRepository.existsByUuid(seniorUuid)) {
+            return BasicServiceResult.of(ServiceResult.GenericStatus.NOT_FOUND, null, null);
+        }
+        return BasicServiceResult.of(ServiceResult.GenericStatus.SUCCESS, null, null);
+    }
+
+    /** 센서 기록을 스트리밍으로 내보냅니다. 내보내는 동안의 읽기 전용 트랜잭션은 SensorStatExporter 가 엽니다. */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public long exportSensorStats(
+            String seniorUuid,
+            LocalDateTime from,
+            LocalDateTime to,
+            StatExportFormat format,
+            boolean gzip,
+            OutputStream out)
+            throws IOException {
+        return sensorStatExporter.export(
+                seniorUuid,
+                from != null ? from : EXPORT_MIN_TIMESTAMP,
+                to != null ? to : EXPORT_MAX_TIMESTAMP,
+                format,
+                gzip,
+                out);
+    }
+
+    /** 가장 최근 측정값. 최근 측정값 캐시에서 읽으므로 대개 쿼리 없이 응답합니다. */
+    public BasicServiceResult<CareResponseDTO.StatDetail> getLatestSensorStat(String seniorUuid) {
+        try {
+            if (!seniorRepository.existsByUuid(seniorUuid)) {
+                return BasicServiceResult.of(ServiceResult.GenericStatus.NOT_FOUND, null, null);
+            }
+            return seniorRecentStatCache
+                    .getLatestStatDetail(seniorUuid)
+                    .map(
+                            stat ->
+                                    BasicServiceResult.of(
+                                            ServiceResult.GenericStatus.SUCCESS, stat, null))
+                    .orElseGet(
+                            () ->
+                                    BasicServiceResult.of(
+                                            ServiceResult.GenericStatus.NOT_FOUND, null, null));
+        } catch (Exception e) {
+            return BasicServiceResult.of(ServiceResult.GenericStatus.ERROR, null, e);
+        }
+    }
+
+    /**
+     * [from, to) 구간의 롤업을 조회합니다. 단위를 지정하지 않으면 버킷이 sensor.rollup.max-buckets 개를 넘지 않는 가장 세밀한
+     * 단위를 고르므로, 주/월 단위 차트도 원본 측정값을 읽지 않습니다.
+     */
+    public BasicServiceResult<List<CareResponseDTO.StatRollup>> getSensorRollups(
+            String seniorUuid,
+            LocalDateTime from,
+            LocalDateTime to,
+            RollupResolution resolution) {
+        if (!from.isBefore(to)) {
+            return BasicServiceResult.of(
+                    ApiStatus._BAD_REQUEST, "조회 시작 시각은 종료 시각보다 앞서야 합니다.", null, null);
+        }
+        if (resolution == null) {
+            resolution = RollupResolution.forRange(from, to, maxRollupBuckets);
+        } else if (resolution.bucketCount(from, to) > maxRollupBuckets) {
+            return BasicServiceResult.of(
+                    ApiStatus._BAD_REQUEST,
+                    "조회 구간이 너무 깁니다. 더 큰 단위를 사용해 주세요.",
+                    null,
+                    null);
+        }
+        try {
+            if (!seniorRepository.existsByUuid(seniorUuid)) {
+                return BasicServiceResult.of(ServiceResult.GenericStatus.NOT_FOUND, null, null);
+            }
+            List<CareResponseDTO.StatRollup> rollups =
+                    seniorSensorRollupRepository
+                            .findRange(seniorUuid, resolution, resolution.truncate(from), to)
+                            .stream()
+                            .map(careMapper::toStatRollup)
+                            .toList();
+            return BasicServiceResult.of(ServiceResult.GenericStatus.SUCCESS, rollups, null);
+        } catch (Exception e) {
+            return BasicServiceResult.of(ServiceResult.GenericStatus.ERROR, null, e);
+        }
+    }
+
+    /** [from, to) 의 지난 날짜들에 대해 원본 측정값에서 롤업을 다시 계산합니다. 날짜별로 트랜잭션을 나눕니다. */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public BasicServiceResult<Void> backfillSensorRollups(LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        LocalDate until = to.isAfter(today) ? today : to;
+        if (!from.isBefore(until)) {
+            return BasicServiceResult.of(
+                    ApiStatus._BAD_REQUEST, "백필은 오늘 이전의 날짜 구간에만 수행할 수 있습니다.", null, null);
+        }
+        try {
+            sensorRollupService.backfill(from, until);
+            return BasicServiceResult.of(ServiceResult.GenericStatus.SUCCESS, null, null);
+        } catch (Exception e) {
+            return BasicServiceResult.of(ServiceResult.GenericStatus.ERROR, null, e);
+        }
+    }
+
+    /** 기기 heartbeat. DB 를 읽지 않고 해당 기기의 연결 끊김 타이머만 다시 겁니다. */
+    public BasicServiceResult<Void> recordHeartbeat(String seniorUuid, MonitoredDevice device) {
+        seniorLivenessWheel.onHeartbeat(seniorUuid, device);
+        return BasicServiceResult.of(ServiceResult.GenericStatus.SUCCESS, null, null);
+    }
+
+    public Duration getSensorIngestRetryAfter() {
+        return sensorIngestBuffer.getRetryAfter();
+    }
+
+    private BasicServiceResult<CareResponseDTO.StatBatchAck> bufferSensorStats(
+            String seniorUuid, PostSensorStatBatch dto) {
+        if (!seniorRepository.existsByUuid(seniorUuid)) {
+            return BasicServiceResult.of(ServiceResult.GenericStatus.NOT_FOUND, null, null);
+        }
+        if (!sensorIngestBuffer.offer(seniorUuid, dto.stats())) {
+            return BasicServiceResult.of(
+                    ApiStatus._TOO_MANY_REQUESTS,
+                    ApiStatus._TOO_MANY_REQUESTS.getMessage(),
+                    null,
+                    null);
+        }
+        return BasicServiceResult.of(
+                ApiStatus._ACCEPTED,
+                ApiStatus._ACCEPTED.getMessage(),
+                careMapper.toStatBatchAck(dto),
+                null);
+    }
+
     public CareQueryResult<CareResponseDTO.AlertDetail> getAlertDetail(String eventUuid) {
         try {
             CareAlert alert = careAlertRepository.findByUuid(eventUuid).orElse(null);
@@ -233,42 +474,76 @@ public class CareService {
 
     public BasicServiceResult<CareResponseDTO.AlertBrief> addCareAlert(
             String seniorUuid, PostCareAlert dto) {
+        return saveCareAlert(seniorUuid, dto, dto.base64Image());
+    }
+
+    /** 멀티파트로 받은 이미지와 함께 알림을 등록합니다. 컨테이너가 받아 둔 이미지 파트 파일을 staging 으로 옮긴 뒤 저장소로 옮깁니다. */
+    public BasicServiceResult<CareResponseDTO.AlertBrief> addCareAlert(
+            String seniorUuid, PostCareAlert dto, MultipartFile image) {
+        if (image == null || image.isEmpty()) {
+            return saveCareAlert(seniorUuid, dto, dto.base64Image());
+        }
+        StagedImage staged;
+        try {
+            staged = alertImageStore.stageFile(image::transferTo);
+        } catch (IllegalArgumentException e) {
+            return BasicServiceResult.of(ApiStatus._BAD_REQUEST, e.getMessage(), null, e);
+        } catch (IOException e) {
+            return BasicServiceResult.of(ServiceResult.GenericStatus.ERROR, null, e);
+        }
+        try {
+            return saveCareAlert(seniorUuid, dto, staged);
+        } finally {
+            // 커밋된 뒤에 저장소로 옮겨지므로 임시 파일은 트랜잭션이 끝난 뒤에 지운다
+            alertImageStore.discardAfterTransaction(staged);
+        }
+    }
+
+    private BasicServiceResult<CareResponseDTO.AlertBrief> saveCareAlert(
+            String seniorUuid, PostCareAlert dto, StagedImage staged) {
         try {
             Senior senior =
                     seniorRepository
                             .findByUuid(seniorUuid)
                             .orElseThrow(() -> new IllegalArgumentException("SENIOR_NOT_FOUND"));
 
-            CareAlert alert = careAlertRepository.save(careMapper.toEntity(dto, senior));
+            AlertImage image =
+                    staged != null && staged.size() > 0
+                            ? alertImageStore.commitAfterTransaction(staged)
+                            : null;
+            CareAlert alert = careAlertRepository.save(careMapper.toEntity(dto, senior, image));
+            if (!Boolean.TRUE.equals(alert.getIsRead())
+                    && !Boolean.TRUE.equals(alert.getIsDismissed())) {
+                seniorAlertCounterService.add(senior.getUuid(), 1);
+            }
+            if (image != null) {
+                alertImageVariantProcessor.onAlertSaved(alert.getUuid(), image);
+            }
 
             Map<String, String> eventData =
                     Map.of("eventUuid", alert.getUuid(), "seniorUuid", senior.getUuid());
             if (alert.getEventType() == SeniorEvent.CAMERA_BATTERY_LOW
                     || alert.getEventType() == SeniorEvent.WEARABLE_BATTERY_LOW) {
-                pushService.pushBatch(
-                        Role.SENIOR,
+                pushOutboxService.enqueue(
+                        PushTarget.SENIOR,
                         senior.getUuid(),
                         PushChannel.ALERT,
                         alert.getEventType().getTitle(),
                         alert.getEventType().getMessage(),
                         Optional.of(eventData));
             } else {
-                careRelationRepository.findBySeniorOrderByMember_NameAsc(senior).stream()
-                        .map(Care::getMember)
-                        .forEach(
-                                member ->
-                                        pushService.pushBatch(
-                                                Role.MEMBER,
-                                                member.getUuid(),
-                                                PushChannel.ALERT,
-                                                String.format(
-                                                        "[%s] %s(%s, %d세)",
-                                                        alert.getEventType().getTitle(),
-                                                        senior.getName(),
-                                                        senior.getGender().getText(),
-                                                        senior.getAge()),
-                                                alert.getEventType().getMessage(),
-                                                Optional.of(eventData)));
+                pushOutboxService.enqueue(
+                        PushTarget.SENIOR_CAREGIVERS,
+                        senior.getUuid(),
+                        PushChannel.ALERT,
+                        String.format(
+                                "[%s] %s(%s, %d세)",
+                                alert.getEventType().getTitle(),
+                                senior.getName(),
+                                senior.getGender().getText(),
+                                senior.getAge()),
+                        alert.getEventType().getMessage(),
+                        Optional.of(eventData));
             }
             return BasicServiceResult.of(
                     ServiceResult.GenericStatus.SUCCESS, careMapper.toAlertBrief(alert), null);
@@ -277,6 +552,58 @@ public class CareService {
         }
     }
 
+    /** 알림을 읽음으로 표시합니다. 이미 읽은 알림이면 아무것도 바꾸지 않습니다. */
+    public BasicServiceResult<Void> markAlertRead(String seniorUuid, String alertUuid) {
+        if (careAlertRepository.markReadIfUnread(alertUuid, seniorUuid) > 0) {
+            seniorAlertCounterService.add(seniorUuid, -1);
+        } else if (careAlertRepository.markRead(alertUuid, seniorUuid) == 0
+                && !careAlertRepository.existsByUuidAndSenior_Uuid(alertUuid, seniorUuid)) {
+            return BasicServiceResult.of(ServiceResult.GenericStatus.NOT_FOUND, null, null);
+        }
+        return BasicServiceResult.of(ServiceResult.GenericStatus.SUCCESS, null, null);
+    }
+
+    /** 알림을 해제합니다. 이미 해제한 알림이면 아무것도 바꾸지 않습니다. */
+    public BasicServiceResult<Void> dismissAlert(String seniorUuid, String alertUuid) {
+        if (careAlertRepository.dismissIfUnread(alertUuid, seniorUuid) > 0) {
+            seniorAlertCounterService.add(seniorUuid, -1);
+        } else if (careAlertRepository.dismiss(alertUuid, seniorUuid) == 0
+                && !careAlertRepository.existsByUuidAndSenior_Uuid(alertUuid, seniorUuid)) {
+            return BasicServiceResult.of(ServiceResult.GenericStatus.NOT_FOUND, null, null);
+        }
+        return BasicServiceResult.of(ServiceResult.GenericStatus.SUCCESS, null, null);
+    }
+
+    /** 알림 이미지 파일. variant 가 null 이면 원본이며, 아직 만들어지지 않은 축소본은 NOT_FOUND 입니다. */
+    public BasicServiceResult<AlertImage> getAlertImage(
+            String seniorUuid, String alertUuid, AlertImageVariant variant) {
+        CareAlert alert =
+                careAlertRepository.findByUuidAndSenior_Uuid(alertUuid, seniorUuid).orElse(null);
+        if (alert == null) {
+            return BasicServiceResult.of(ServiceResult.GenericStatus.NOT_FOUND, null, null);
+        }
+        String hash =
+                variant == null
+                        ? alert.getImageHash()
+                        : switch (variant) {
+                            case MEDIUM -> alert.getMediumImageHash();
+                            case THUMBNAIL -> alert.getThumbnailImageHash();
+                        };
+        String contentType = variant == null ? alert.getImageContentType() : "image/jpeg";
+        return alertImageStore
+                .find(hash)
+                .map(
+                        path ->
+                                BasicServiceResult.of(
+                                        ServiceResult.GenericStatus.SUCCESS,
+                                        new AlertImage(hash, contentType, path),
+                                        null))
+                .orElseGet(
+                        () ->
+                                BasicServiceResult.of(
+                                        ServiceResult.GenericStatus.NOT_FOUND, null, null));
+    }
+
     // TODO: use pagination for alerts and stats if needed (by client request)
     public CareQueryResult<CareResponseDTO.SeniorDetail> getSeniorDetail(String seniorUuid) {
         try {
@@ -307,10 +634,6 @@ public class CareService {
     }
 
     private List<CareResponseDTO.StatBrief> getRecentStatBriefs(String seniorUuid) {
-        return seniorSensorStatRepository
-                .findTop20BySenior_UuidOrderByTimestampDesc(seniorUuid)
-                .stream()
-                .map(careMapper::toStatBrief)
-                .toList();
+        return seniorRecentStatCache.getRecentStatBriefs(seniorUuid);
     }
 }
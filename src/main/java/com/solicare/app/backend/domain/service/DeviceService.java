@@ -10,6 +10,7 @@ import com.solicare.app.backend.domain.entity.Device;
 import com.solicare.app.backend.domain.entity.Member;
 import com.solicare.app.backend.domain.entity.Senior;
 import com.solicare.app.backend.domain.enums.PushMethod;
+import com.solicare.app.backend.domain.enums.PushTarget;
 import com.solicare.app.backend.domain.enums.Role;
 import com.solicare.app.backend.domain.repository.DeviceRepository;
 import com.solicare.app.backend.domain.repository.MemberRepository;
@@ -29,7 +30,8 @@ import java.util.stream.Collectors;
 @Transactional
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class DeviceService {
-    private final PushService pushService;
+    private final PushOutboxService pushOutboxService;
+    private final PushTopicReconciler pushTopicReconciler;
     private final DeviceMapper deviceMapper;
     private final DeviceRepository deviceRepository;
     private final MemberRepository memberRepository;
@@ -93,6 +95,7 @@ public class DeviceService {
 
             DeviceResponseDTO.Info info =
                     deviceMapper.from(deviceRepository.save(device.renew(newToken)));
+            pushTopicReconciler.onMemberDevicesChanged(memberUuidOf(device));
             return DeviceManageResult.of(DeviceManageResult.Status.UPDATED, info, null);
         } catch (Exception e) {
             if (e instanceof IllegalArgumentException) {
@@ -125,6 +128,7 @@ public class DeviceService {
                 return DeviceManageResult.of(
                         DeviceManageResult.Status.DEVICE_NOT_FOUND, null, null);
             }
+            pushTopicReconciler.onMemberDevicesChanged(memberUuidOf(device));
             deviceRepository.delete(device);
             return DeviceManageResult.of(DeviceManageResult.Status.DELETED, null, null);
         } catch (Exception e) {
@@ -161,8 +165,9 @@ public class DeviceService {
                             : null;
             // TODO: query available devices before linking,
             //  and send unlink push to the old owner after linking
-            pushService.pushBatch(
-                    role,
+            pushTopicReconciler.onMemberDevicesChanged(memberUuidOf(device));
+            pushOutboxService.enqueue(
+                    PushTarget.fromRole(role),
                     uuid,
                     PushChannel.INFO,
                     "새로운 기기 연결",
@@ -173,7 +178,9 @@ public class DeviceService {
                 case SENIOR -> device.link(senior);
                 default -> throw new IllegalArgumentException("INVALID_ROLE");
             }
-            pushService.sendPushToDevice(
+            pushTopicReconciler.onMemberDevicesChanged(memberUuidOf(device));
+            pushOutboxService.enqueue(
+                    PushTarget.DEVICE,
                     deviceUuid,
                     PushChannel.INFO,
                     "기기 연결 성공",
@@ -198,6 +205,7 @@ public class DeviceService {
                     deviceRepository
                             .findByUuid(deviceUuid)
                             .orElseThrow(() -> new IllegalArgumentException("DEVICE_NOT_FOUND"));
+            pushTopicReconciler.onMemberDevicesChanged(memberUuidOf(device));
             return DeviceManageResult.of(
                     DeviceManageResult.Status.UNLINKED,
                     deviceMapper.from(deviceRepository.save(device.unlink())),
@@ -210,4 +218,8 @@ public class DeviceService {
             return DeviceManageResult.of(DeviceManageResult.Status.ERROR, null, e);
         }
     }
+
+    private String memberUuidOf(Device device) {
+        return device.getMember() != null ? device.getMember().getUuid() : null;
+    }
 }
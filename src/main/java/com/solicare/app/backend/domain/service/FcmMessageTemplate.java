@@ -0,0 +1,98 @@
+package com.solicare.app.backend.domain.service;
+
+import com.google.firebase.messaging.*;
+import com.solicare.app.backend.application.enums.PushChannel;
+import com.solicare.app.backend.domain.dto.push.PushMessage;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채널, 제목, 본문이 같은 모든 {@link PushMessage} 에 공통인 FCM 설정 (Notification, AndroidConfig,
+ * WebpushConfig). Firebase 설정 객체는 불변이므로 한 번 만들어 두고 발송마다 토큰(또는 토픽)과 data 만 채워 메시지를 만듭니다.
+ * data 는 알림마다 다른 eventUuid 를 담으므로 템플릿에 넣지 않습니다.
+ */
+public final class FcmMessageTemplate {
+    private final Notification notification;
+    private final AndroidConfig androidConfig;
+    private final WebpushConfig webpushConfig;
+
+    private FcmMessageTemplate(Key key) {
+        this.notification = buildNotification(key.title(), key.body());
+        this.androidConfig = buildAndroidConfig(key.channel());
+        this.webpushConfig = buildWebpushConfig(key.title(), key.body());
+    }
+
+    /** 템플릿을 공유할 수 있는 메시지의 기준 */
+    public record Key(PushChannel channel, String title, String body) {
+        public static Key of(PushMessage message) {
+            return new Key(message.channel(), message.title(), message.body());
+        }
+    }
+
+    public static FcmMessageTemplate of(Key key) {
+        return new FcmMessageTemplate(key);
+    }
+
+    public MulticastMessage toMulticast(List<String> fcmTokens, Map<String, String> data) {
+        MulticastMessage.Builder builder =
+                MulticastMessage.builder()
+                        .addAllTokens(fcmTokens)
+                        .setNotification(notification)
+                        .setAndroidConfig(androidConfig)
+                        .setWebpushConfig(webpushConfig);
+        if (data != null) {
+            builder.putAllData(data);
+        }
+        return builder.build();
+    }
+
+    /** 단건 메시지. sendEachForMulticast 도 내부에서 토큰마다 이와 같은 메시지를 만들어 보냅니다. */
+    public Message toMessage(String fcmToken, Map<String, String> data) {
+        Message.Builder builder =
+                Message.builder()
+                        .setToken(fcmToken)
+                        .setNotification(notification)
+                        .setAndroidConfig(androidConfig)
+                        .setWebpushConfig(webpushConfig);
+        if (data != null) {
+            builder.putAllData(data);
+        }
+        return builder.build();
+    }
+
+    public Message toTopicMessage(String topic, Map<String, String> data) {
+        Message.Builder builder =
+                Message.builder()
+                        .setTopic(topic)
+                        .setNotification(notification)
+                        .setAndroidConfig(androidConfig)
+                        .setWebpushConfig(webpushConfig);
+        if (data != null) {
+            builder.putAllData(data);
+        }
+        return builder.build();
+    }
+
+    private static Notification buildNotification(String title, String body) {
+        return Notification.builder().setTitle(title).setBody(body).build();
+    }
+
+    private static AndroidConfig buildAndroidConfig(PushChannel channel) {
+        return AndroidConfig.builder()
+                .setNotification(
+                        AndroidNotification.builder()
+                                .setChannelId(channel.getChannelId())
+                                .setIcon(channel.getNotificationIcon())
+                                .build())
+                .build();
+    }
+
+    private static WebpushConfig buildWebpushConfig(String title, String body) {
+        return WebpushConfig.builder()
+                .putHeader("TTL", "300")
+                .setNotification(
+                        WebpushNotification.builder().setTitle(title).setBody(body).build())
+                .build();
+    }
+}
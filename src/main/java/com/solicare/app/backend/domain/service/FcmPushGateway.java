@@ -0,0 +1,55 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.domain.dto.push.PushDeliveryResult;
+import com.solicare.app.backend.domain.dto.push.PushMessage;
+import com.solicare.app.backend.domain.enums.PushMethod;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "push.gateway.fcm", havingValue = "firebase", matchIfMissing = true)
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class FcmPushGateway implements PushTopicGateway {
+    private final FirebaseService firebaseService;
+
+    @Override
+    public PushMethod getPushMethod() {
+        return PushMethod.FCM;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return FirebaseService.MAX_MULTICAST_TOKENS;
+    }
+
+    @Override
+    public List<PushDeliveryResult> send(List<String> tokens, PushMessage message) {
+        return firebaseService.sendMulticast(tokens, message);
+    }
+
+    @Override
+    public int getMaxTopicBatchSize() {
+        return FirebaseService.MAX_TOPIC_MANAGEMENT_TOKENS;
+    }
+
+    @Override
+    public List<PushDeliveryResult> subscribe(String topic, List<String> tokens) {
+        return firebaseService.subscribeToTopic(tokens, topic);
+    }
+
+    @Override
+    public List<PushDeliveryResult> unsubscribe(String topic, List<String> tokens) {
+        return firebaseService.unsubscribeFromTopic(tokens, topic);
+    }
+
+    @Override
+    public PushDeliveryResult publish(String topic, PushMessage message) {
+        return firebaseService.sendToTopic(topic, message);
+    }
+}
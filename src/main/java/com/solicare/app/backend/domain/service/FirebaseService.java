@@ -1,64 +1,227 @@
 package com.solicare.app.backend.domain.service;
 
+import com.google.firebase.IncomingHttpResponse;
 import com.google.firebase.messaging.*;
-import com.solicare.app.backend.application.enums.PushChannel;
 import com.solicare.app.backend.domain.dto.push.PushDeliveryResult;
+import com.solicare.app.backend.domain.dto.push.PushMessage;
+import com.solicare.app.backend.domain.enums.PushErrorCode;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 @Service
+@ConditionalOnProperty(name = "push.gateway.fcm", havingValue = "firebase", matchIfMissing = true)
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class FirebaseService {
+    /** FCM sendEachForMulticast 1회 호출당 최대 토큰 수 */
+    public static final int MAX_MULTICAST_TOKENS = 500;
+
+    /** FCM subscribeToTopic / unsubscribeFromTopic 1회 호출당 최대 토큰 수 */
+    public static final int MAX_TOPIC_MANAGEMENT_TOKENS = 1000;
+
+    private static final int TEMPLATE_CACHE_SIZE = 256;
+
     private final FirebaseMessaging firebaseMessaging;
+    private final Map<FcmMessageTemplate.Key, FcmMessageTemplate> templates =
+            Collections.synchronizedMap(
+                    new LinkedHashMap<FcmMessageTemplate.Key, FcmMessageTemplate>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(
+                                Map.Entry<FcmMessageTemplate.Key, FcmMessageTemplate> eldest) {
+                            return size() > TEMPLATE_CACHE_SIZE;
+                        }
+                    });
+
+    /**
+     * 여러 토큰에 동일한 메시지를 전송합니다. 토큰은 {@link #MAX_MULTICAST_TOKENS}개 단위로 나누어
+     * sendEachForMulticast 로 전송되며, 결과는 입력 토큰 순서와 동일한 순서로 반환됩니다.
+     */
+    public List<PushDeliveryResult> sendMulticast(List<String> fcmTokens, PushMessage message) {
+        if (fcmTokens.isEmpty()) {
+            return List.of();
+        }
+        FcmMessageTemplate template = getTemplate(message);
 
-    public PushDeliveryResult sendMessageTo(
-            String fcmToken,
-            PushChannel channel,
-            String title,
-            String body,
-            Optional<Map<String, String>> data) {
+        List<PushDeliveryResult> results = new ArrayList<>(fcmTokens.size());
+        for (int from = 0; from < fcmTokens.size(); from += MAX_MULTICAST_TOKENS) {
+            List<String> chunk =
+                    fcmTokens.subList(
+                            from, Math.min(from + MAX_MULTICAST_TOKENS, fcmTokens.size()));
+            try {
+                BatchResponse response =
+                        firebaseMessaging.sendEachForMulticast(
+                                template.toMulticast(chunk, message.data()));
+                response.getResponses().stream().map(this::toDeliveryResult).forEach(results::add);
+            } catch (Exception e) {
+                results.addAll(Collections.nCopies(chunk.size(), toFailure(e)));
+            }
+        }
+        return results;
+    }
+
+    public PushDeliveryResult sendToTopic(String topic, PushMessage message) {
         try {
-            Message.Builder messageBuilder =
-                    Message.builder()
-                            .setToken(fcmToken)
-                            .setNotification(
-                                    Notification.builder().setTitle(title).setBody(body).build())
-                            .setAndroidConfig(
-                                    AndroidConfig.builder()
-                                            .setNotification(
-                                                    AndroidNotification.builder()
-                                                            .setChannelId(channel.getChannelId())
-                                                            .setIcon(channel.getNotificationIcon())
-                                                            .build())
-                                            .build())
-                            .setWebpushConfig(
-                                    WebpushConfig.builder()
-                                            .putHeader("TTL", "300")
-                                            .setNotification(
-                                                    WebpushNotification.builder()
-                                                            .setTitle(title)
-                                                            .setBody(body)
-                                                            .build())
-                                            .build());
-            data.ifPresent(messageBuilder::putAllData);
-            firebaseMessaging.send(messageBuilder.build());
+            firebaseMessaging.send(
+                    getTemplate(message).toTopicMessage(topic, message.data()));
             return PushDeliveryResult.of(PushDeliveryResult.Status.SENT, null);
         } catch (Exception e) {
-            if (e instanceof FirebaseMessagingException fcmEx) {
-                return PushDeliveryResult.of(
-                        PushDeliveryResult.Status.ERROR,
-                        new RuntimeException(
-                                "FCM Error: " + fcmEx.getErrorCode() + " - " + fcmEx.getMessage()));
-            } else {
-                return PushDeliveryResult.of(
-                        PushDeliveryResult.Status.ERROR, new RuntimeException(e.getMessage()));
+            return toFailure(e);
+        }
+    }
+
+    /** 토큰을 토픽에 구독시킵니다. 결과는 입력 토큰 순서와 동일합니다. */
+    public List<PushDeliveryResult> subscribeToTopic(List<String> fcmTokens, String topic) {
+        return manageTopic(fcmTokens, topic, true);
+    }
+
+    public List<PushDeliveryResult> unsubscribeFromTopic(List<String> fcmTokens, String topic) {
+        return manageTopic(fcmTokens, topic, false);
+    }
+
+    private List<PushDeliveryResult> manageTopic(
+            List<String> fcmTokens, String topic, boolean subscribe) {
+        List<PushDeliveryResult> results = new ArrayList<>(fcmTokens.size());
+        for (int from = 0; from < fcmTokens.size(); from += MAX_TOPIC_MANAGEMENT_TOKENS) {
+            List<String> chunk =
+                    fcmTokens.subList(
+                            from, Math.min(from + MAX_TOPIC_MANAGEMENT_TOKENS, fcmTokens.size()));
+            try {
+                TopicManagementResponse response =
+                        subscribe
+                                ? firebaseMessaging.subscribeToTopic(chunk, topic)
+                                : firebaseMessaging.unsubscribeFromTopic(chunk, topic);
+                List<PushDeliveryResult> chunkResults =
+                        new ArrayList<>(
+                                Collections.nCopies(
+                                        chunk.size(),
+                                        PushDeliveryResult.of(
+                                                PushDeliveryResult.Status.SENT, null)));
+                for (TopicManagementResponse.Error error : response.getErrors()) {
+                    chunkResults.set(error.getIndex(), toTopicFailure(error));
+                }
+                results.addAll(chunkResults);
+            } catch (Exception e) {
+                results.addAll(Collections.nCopies(chunk.size(), toFailure(e)));
             }
         }
+        return results;
+    }
+
+    private PushDeliveryResult toTopicFailure(TopicManagementResponse.Error error) {
+        PushErrorCode errorCode =
+                switch (error.getReason()) {
+                    case "registration-token-not-registered" -> PushErrorCode.UNREGISTERED;
+                    case "invalid-argument" -> PushErrorCode.INVALID_ARGUMENT;
+                    case "internal-error" -> PushErrorCode.INTERNAL;
+                    default -> PushErrorCode.UNKNOWN;
+                };
+        return PushDeliveryResult.of(
+                PushDeliveryResult.Status.ERROR,
+                errorCode,
+                new RuntimeException("FCM Topic Error: " + error.getReason()));
+    }
+
+    private PushDeliveryResult toDeliveryResult(SendResponse response) {
+        if (response.isSuccessful()) {
+            return PushDeliveryResult.of(PushDeliveryResult.Status.SENT, null);
+        }
+        return toFailure(response.getException());
+    }
+
+    private PushDeliveryResult toFailure(Exception e) {
+        if (e instanceof FirebaseMessagingException fcmEx) {
+            return PushDeliveryResult.of(
+                    PushDeliveryResult.Status.ERROR,
+                    toPushErrorCode(fcmEx),
+                    parseRetryAfter(fcmEx),
+                    new RuntimeException(
+                            "FCM Error: " + fcmEx.getErrorCode() + " - " + fcmEx.getMessage()));
+        } else {
+            return PushDeliveryResult.of(
+                    PushDeliveryResult.Status.ERROR,
+                    PushErrorCode.UNKNOWN,
+                    new RuntimeException(e.getMessage()));
+        }
+    }
+
+    private PushErrorCode toPushErrorCode(FirebaseMessagingException e) {
+        MessagingErrorCode messagingErrorCode = e.getMessagingErrorCode();
+        if (messagingErrorCode != null) {
+            return switch (messagingErrorCode) {
+                case UNREGISTERED -> PushErrorCode.UNREGISTERED;
+                case INVALID_ARGUMENT -> PushErrorCode.INVALID_ARGUMENT;
+                case SENDER_ID_MISMATCH -> PushErrorCode.SENDER_ID_MISMATCH;
+                case QUOTA_EXCEEDED -> PushErrorCode.QUOTA_EXCEEDED;
+                case UNAVAILABLE -> PushErrorCode.UNAVAILABLE;
+                case INTERNAL -> PushErrorCode.INTERNAL;
+                case THIRD_PARTY_AUTH_ERROR -> PushErrorCode.THIRD_PARTY_AUTH_ERROR;
+                default -> PushErrorCode.UNKNOWN;
+            };
+        }
+        if (e.getErrorCode() == null) {
+            return PushErrorCode.UNKNOWN;
+        }
+        return switch (e.getErrorCode()) {
+            case UNAVAILABLE, DEADLINE_EXCEEDED -> PushErrorCode.UNAVAILABLE;
+            case INTERNAL -> PushErrorCode.INTERNAL;
+            case RESOURCE_EXHAUSTED -> PushErrorCode.QUOTA_EXCEEDED;
+            default -> PushErrorCode.UNKNOWN;
+        };
+    }
+
+    /** FCM 응답의 Retry-After 헤더(초 단위 또는 HTTP-date)를 읽습니다. */
+    private Duration parseRetryAfter(FirebaseMessagingException e) {
+        IncomingHttpResponse response = e.getHttpResponse();
+        if (response == null || response.getHeaders() == null) {
+            return null;
+        }
+        Object header =
+                response.getHeaders().entrySet().stream()
+                        .filter(entry -> "retry-after".equalsIgnoreCase(entry.getKey()))
+                        .map(Map.Entry::getValue)
+                        .findFirst()
+                        .orElse(null);
+        if (header instanceof List<?> values) {
+            header = values.isEmpty() ? null : values.get(0);
+        }
+        if (header == null) {
+            return null;
+        }
+        String value = header.toString().trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식
+        }
+        try {
+            ZonedDateTime retryAt =
+                    ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration delay = Duration.between(ZonedDateTime.now(), retryAt);
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * 팬아웃 청크, 재시도, 같은 종류의 알림 발송이 설정 객체를 공유하도록 채널, 제목, 본문 기준으로 최근 템플릿을 보관합니다. data 는
+     * 발송마다 채웁니다.
+     */
+    private FcmMessageTemplate getTemplate(PushMessage message) {
+        return templates.computeIfAbsent(
+                FcmMessageTemplate.Key.of(message), FcmMessageTemplate::of);
     }
 }
@@ -0,0 +1,187 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.domain.dto.push.PushDeliveryResult;
+import com.solicare.app.backend.domain.dto.push.PushMessage;
+import com.solicare.app.backend.domain.enums.PushErrorCode;
+import com.solicare.app.backend.domain.enums.PushMethod;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 네트워크 없이 발송 경로(팬아웃, 재시도, 토큰 정리)를 부하 테스트하기 위한 FCM 대역. {@code push.gateway.fcm=local} 일 때
+ * {@link FcmPushGateway} 대신 등록됩니다.
+ *
+ * <p>토큰이 {@code push.gateway.local.failure-prefix} + {@link PushErrorCode} 이름으로 시작하면 (예: {@code
+ * local-fail:UNREGISTERED:abc}) 항상 해당 코드로 실패합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "push.gateway.fcm", havingValue = "local")
+public class LocalPushGateway implements PushTopicGateway {
+    private final int maxBatchSize;
+    private final long latencyMs;
+    private final long latencyJitterMs;
+    private final double outageRate;
+    private final double transientErrorRate;
+    private final double deadTokenRate;
+    private final Duration retryAfter;
+    private final String failurePrefix;
+
+    public LocalPushGateway(
+            @Value("${push.gateway.local.max-batch-size:500}") int maxBatchSize,
+            @Value("${push.gateway.local.latency-ms:50}") long latencyMs,
+            @Value("${push.gateway.local.latency-jitter-ms:0}") long latencyJitterMs,
+            @Value("${push.gateway.local.outage-rate:0.0}") double outageRate,
+            @Value("${push.gateway.local.transient-error-rate:0.0}") double transientErrorRate,
+            @Value("${push.gateway.local.dead-token-rate:0.0}") double deadTokenRate,
+            @Value("${push.gateway.local.retry-after-seconds:0}") long retryAfterSeconds,
+            @Value("${push.gateway.local.failure-prefix:local-fail:}") String failurePrefix) {
+        this.maxBatchSize = maxBatchSize;
+        this.latencyMs = latencyMs;
+        this.latencyJitterMs = latencyJitterMs;
+        this.outageRate = outageRate;
+        this.transientErrorRate = transientErrorRate;
+        this.deadTokenRate = deadTokenRate;
+        this.retryAfter = retryAfterSeconds > 0 ? Duration.ofSeconds(retryAfterSeconds) : null;
+        this.failurePrefix = failurePrefix;
+        log.warn(
+                "Local push gateway is active: no push notification will leave this process"
+                        + " (latency={}±{}ms, outage={}, transient={}, dead={})",
+                latencyMs,
+                latencyJitterMs,
+                outageRate,
+                transientErrorRate,
+                deadTokenRate);
+    }
+
+    @Override
+    public PushMethod getPushMethod() {
+        return PushMethod.FCM;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public List<PushDeliveryResult> send(List<String> tokens, PushMessage message) {
+        if (tokens.size() > maxBatchSize) {
+            throw new IllegalArgumentException(
+                    "Too many tokens: " + tokens.size() + " > " + maxBatchSize);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        simulateLatency(random);
+
+        // 호출 전체가 실패하는 경우 (게이트웨이 장애)
+        if (random.nextDouble() < outageRate) {
+            return Collections.nCopies(tokens.size(), failure(PushErrorCode.UNAVAILABLE));
+        }
+        List<PushDeliveryResult> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            results.add(deliver(token, random));
+        }
+        return results;
+    }
+
+    @Override
+    public int getMaxTopicBatchSize() {
+        return 1000;
+    }
+
+    @Override
+    public List<PushDeliveryResult> subscribe(String topic, List<String> tokens) {
+        return manageTopic(tokens);
+    }
+
+    @Override
+    public List<PushDeliveryResult> unsubscribe(String topic, List<String> tokens) {
+        return manageTopic(tokens);
+    }
+
+    @Override
+    public PushDeliveryResult publish(String topic, PushMessage message) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        simulateLatency(random);
+        if (random.nextDouble() < outageRate + transientErrorRate) {
+            return failure(PushErrorCode.UNAVAILABLE);
+        }
+        return PushDeliveryResult.of(PushDeliveryResult.Status.SENT, null);
+    }
+
+    private List<PushDeliveryResult> manageTopic(List<String> tokens) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        simulateLatency(random);
+        if (random.nextDouble() < outageRate) {
+            return Collections.nCopies(tokens.size(), failure(PushErrorCode.UNAVAILABLE));
+        }
+        List<PushDeliveryResult> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            PushErrorCode forced = forcedErrorCode(token);
+            results.add(
+                    forced != null
+                            ? failure(forced)
+                            : PushDeliveryResult.of(PushDeliveryResult.Status.SENT, null));
+        }
+        return results;
+    }
+
+    private PushDeliveryResult deliver(String token, ThreadLocalRandom random) {
+        PushErrorCode forced = forcedErrorCode(token);
+        if (forced != null) {
+            return failure(forced);
+        }
+        double roll = random.nextDouble();
+        if (roll < deadTokenRate) {
+            return failure(PushErrorCode.UNREGISTERED);
+        }
+        if (roll < deadTokenRate + transientErrorRate) {
+            return failure(PushErrorCode.UNAVAILABLE);
+        }
+        return PushDeliveryResult.of(PushDeliveryResult.Status.SENT, null);
+    }
+
+    private PushErrorCode forcedErrorCode(String token) {
+        if (failurePrefix.isEmpty() || token == null || !token.startsWith(failurePrefix)) {
+            return null;
+        }
+        String rest = token.substring(failurePrefix.length());
+        int end = rest.indexOf(':');
+        String code = end < 0 ? rest : rest.substring(0, end);
+        try {
+            return PushErrorCode.valueOf(code);
+        } catch (IllegalArgumentException e) {
+            return PushErrorCode.UNKNOWN;
+        }
+    }
+
+    private PushDeliveryResult failure(PushErrorCode errorCode) {
+        return PushDeliveryResult.of(
+                PushDeliveryResult.Status.ERROR,
+                errorCode,
+                errorCode.isRetryable() ? retryAfter : null,
+                new RuntimeException("Local gateway error: " + errorCode));
+    }
+
+    private void simulateLatency(ThreadLocalRandom random) {
+        long sleepMs = latencyMs + (latencyJitterMs > 0 ? random.nextLong(latencyJitterMs + 1) : 0);
+        if (sleepMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(sleepMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.domain.dto.push.PushDeliveryResult;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 푸시 게이트웨이 호출 단위의 서킷 브레이커. 연속된 일시적 장애가 임계치를 넘으면 OPEN 으로 전환되어 호출을 즉시 거부하고, open
+ * 시간이 지나면 HALF_OPEN 에서 한 번의 시험 호출로 복구 여부를 판단합니다.
+ */
+@Component
+public class PushCircuitBreaker {
+    private final int failureThreshold;
+    private final Duration openDuration;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private Instant openUntil = Instant.EPOCH;
+    private boolean probeInFlight = false;
+
+    public PushCircuitBreaker(
+            @Value("${push.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${push.circuit.open-seconds:30}") long openSeconds,
+            MeterRegistry meterRegistry) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = Duration.ofSeconds(openSeconds);
+        Gauge.builder("push.circuit.state", this, breaker -> breaker.snapshot().state().ordinal())
+                .description("0=CLOSED, 1=HALF_OPEN, 2=OPEN")
+                .register(meterRegistry);
+    }
+
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED -> {
+                return true;
+            }
+            case OPEN -> {
+                if (Instant.now().isBefore(openUntil)) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                return true;
+            }
+            default -> {
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+            }
+        }
+    }
+
+    /** 게이트웨이 호출 한 번의 결과를 반영합니다. 모든 토큰이 일시적 오류로 실패한 경우만 장애로 봅니다. */
+    public void record(List<PushDeliveryResult> results) {
+        if (!results.isEmpty() && results.stream().allMatch(PushDeliveryResult::isRetryable)) {
+            onFailure();
+        } else {
+            onSuccess();
+        }
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        probeInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openUntil = Instant.now().plus(openDuration);
+        }
+    }
+
+    /** 상태, 연속 실패 수, open 종료 시각을 한 시점에 함께 읽습니다. */
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(state, consecutiveFailures, openUntil);
+    }
+
+    /** OPEN 상태에서 다음 시도를 해도 되는 시각까지 남은 시간 */
+    public synchronized Duration getRemainingOpenDuration() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        Duration remaining = Duration.between(Instant.now(), openUntil);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    public record Snapshot(State state, int consecutiveFailures, Instant openUntil) {}
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+}
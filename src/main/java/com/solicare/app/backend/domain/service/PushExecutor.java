@@ -0,0 +1,84 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.application.enums.PushChannel;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 외부 푸시 게이트웨이 호출 전용 실행기. 작업마다 가상 스레드를 사용하고, 세마포어로 게이트웨이에 대한 동시 호출 수를
+ * 제한합니다. 이 실행기에서 실행되는 작업은 DB 에 접근하지 않아야 합니다.
+ *
+ * <p>ALERT 외의 lane 은 {@code push.executor.alert-reserved-permits} 만큼을 제외한 permit 만 사용할 수 있어, INFO
+ * 폭주 중에도 ALERT 발송은 기다리지 않고 게이트웨이를 호출할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class PushExecutor {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final Semaphore lowPriorityPermits;
+
+    public PushExecutor(
+            @Value("${push.executor.max-concurrency:64}") int maxConcurrency,
+            @Value("${push.executor.alert-reserved-permits:16}") int alertReservedPermits) {
+        this.permits = new Semaphore(maxConcurrency);
+        this.lowPriorityPermits =
+                new Semaphore(Math.max(1, maxConcurrency - alertReservedPermits));
+    }
+
+    public <T> CompletableFuture<T> submit(PushChannel lane, Supplier<T> task) {
+        boolean lowPriority = lane != PushChannel.ALERT;
+        return CompletableFuture.supplyAsync(
+                () -> {
+                    if (lowPriority) {
+                        lowPriorityPermits.acquireUninterruptibly();
+                    }
+                    permits.acquireUninterruptibly();
+                    try {
+                        return task.get();
+                    } finally {
+                        permits.release();
+                        if (lowPriority) {
+                            lowPriorityPermits.release();
+                        }
+                    }
+                },
+                executor);
+    }
+
+    /** 지정한 시간 뒤에 완료되는 future. 대기하는 동안 permit 이나 플랫폼 스레드를 점유하지 않습니다. */
+    public CompletableFuture<Void> delay(Duration delay) {
+        return CompletableFuture.runAsync(
+                () -> {},
+                CompletableFuture.delayedExecutor(
+                        delay.toMillis(), TimeUnit.MILLISECONDS, executor));
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn(
+                    "Push executor did not terminate in time, {} permits free",
+                    getAvailablePermits());
+            executor.shutdownNow();
+        }
+    }
+}
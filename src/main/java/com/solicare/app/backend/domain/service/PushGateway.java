@@ -0,0 +1,23 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.domain.dto.push.PushDeliveryResult;
+import com.solicare.app.backend.domain.dto.push.PushMessage;
+import com.solicare.app.backend.domain.enums.PushMethod;
+
+import java.util.List;
+
+/**
+ * {@link PushMethod} 별 외부 푸시 발송 구현. {@link PushExecutor} 위에서 호출되므로 블로킹 I/O 는 허용되지만 DB 에 접근해서는
+ * 안 됩니다.
+ */
+public interface PushGateway {
+    PushMethod getPushMethod();
+
+    /** {@link #send} 1회 호출에 넘길 수 있는 최대 토큰 수 */
+    int getMaxBatchSize();
+
+    /**
+     * 동일한 메시지를 여러 토큰에 발송합니다. 결과는 입력 토큰과 같은 순서, 같은 개수로 반환해야 하며 예외 대신 실패 결과를 돌려줍니다.
+     */
+    List<PushDeliveryResult> send(List<String> tokens, PushMessage message);
+}
@@ -0,0 +1,44 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.domain.enums.PushMethod;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/** 등록된 {@link PushGateway} 빈을 {@link PushMethod} 로 찾습니다. 메서드당 하나의 게이트웨이만 허용합니다. */
+@Component
+public class PushGatewayRegistry {
+    private final Map<PushMethod, PushGateway> gateways;
+
+    public PushGatewayRegistry(List<PushGateway> gateways) {
+        Map<PushMethod, PushGateway> byMethod = new EnumMap<>(PushMethod.class);
+        for (PushGateway gateway : gateways) {
+            PushGateway previous = byMethod.putIfAbsent(gateway.getPushMethod(), gateway);
+            if (previous != null) {
+                throw new IllegalStateException(
+                        "Duplicate push gateway for "
+                                + gateway.getPushMethod()
+                                + ": "
+                                + previous.getClass().getSimpleName()
+                                + ", "
+                                + gateway.getClass().getSimpleName());
+            }
+        }
+        this.gateways = Collections.unmodifiableMap(byMethod);
+    }
+
+    public Optional<PushGateway> find(PushMethod pushMethod) {
+        return Optional.ofNullable(gateways.get(pushMethod));
+    }
+
+    public Optional<PushTopicGateway> findTopicGateway(PushMethod pushMethod) {
+        return find(pushMethod)
+                .filter(PushTopicGateway.class::isInstance)
+                .map(PushTopicGateway.class::cast);
+    }
+}
@@ -0,0 +1,79 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.application.enums.PushChannel;
+import com.solicare.app.backend.domain.dto.push.PushLaneBacklog;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * lane(채널)별 outbox 지표. {@code push.lane.depth} 는 발송 가능한 대기 건수, {@code push.lane.wait} 는 적재부터 첫 발송
+ * 시작까지, {@code push.lane.delivery} 는 적재부터 발송 완료까지 걸린 시간입니다.
+ */
+@Component
+public class PushLaneMetrics {
+    private final Map<PushChannel, AtomicLong> depths = new EnumMap<>(PushChannel.class);
+    private final Map<PushChannel, AtomicLong> oldestAgeMillis = new EnumMap<>(PushChannel.class);
+    private final Map<PushChannel, Timer> waitTimers = new EnumMap<>(PushChannel.class);
+    private final Map<PushChannel, Timer> deliveryTimers = new EnumMap<>(PushChannel.class);
+
+    public PushLaneMetrics(MeterRegistry meterRegistry) {
+        for (PushChannel lane : PushChannel.values()) {
+            String tag = lane.name().toLowerCase();
+            depths.put(lane, new AtomicLong());
+            oldestAgeMillis.put(lane, new AtomicLong());
+            Gauge.builder("push.lane.depth", depths.get(lane), AtomicLong::get)
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            Gauge.builder("push.lane.oldest.age", oldestAgeMillis.get(lane), AtomicLong::get)
+                    .tag("lane", tag)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            waitTimers.put(
+                    lane,
+                    Timer.builder("push.lane.wait")
+                            .tag("lane", tag)
+                            .publishPercentiles(0.5, 0.99)
+                            .register(meterRegistry));
+            deliveryTimers.put(
+                    lane,
+                    Timer.builder("push.lane.delivery")
+                            .tag("lane", tag)
+                            .publishPercentiles(0.5, 0.99)
+                            .register(meterRegistry));
+        }
+    }
+
+    public void updateBacklogs(Map<PushChannel, PushLaneBacklog> backlogs) {
+        LocalDateTime now = LocalDateTime.now();
+        for (PushChannel lane : PushChannel.values()) {
+            PushLaneBacklog backlog = backlogs.get(lane);
+            boolean empty = backlog == null || backlog.oldestAt() == null;
+            depths.get(lane).set(empty ? 0 : backlog.depth());
+            oldestAgeMillis
+                    .get(lane)
+                    .set(empty ? 0 : Duration.between(backlog.oldestAt(), now).toMillis());
+        }
+    }
+
+    public void recordWait(PushChannel lane, LocalDateTime enqueuedAt) {
+        waitTimers.get(lane).record(Duration.between(enqueuedAt, LocalDateTime.now()));
+    }
+
+    public void recordDelivery(PushChannel lane, LocalDateTime enqueuedAt) {
+        deliveryTimers.get(lane).record(Duration.between(enqueuedAt, LocalDateTime.now()));
+    }
+
+    public long getDepth(PushChannel lane) {
+        return depths.get(lane).get();
+    }
+}
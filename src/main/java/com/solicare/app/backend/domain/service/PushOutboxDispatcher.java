@@ -0,0 +1,267 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.application.enums.PushChannel;
+import com.solicare.app.backend.domain.dto.push.PushBatchProcessResult;
+import com.solicare.app.backend.domain.dto.push.PushDeliveryResult;
+import com.solicare.app.backend.domain.entity.PushOutbox;
+import com.solicare.app.backend.domain.dto.push.PushLaneBacklog;
+import com.solicare.app.backend.domain.enums.PushErrorCode;
+import com.solicare.app.backend.domain.enums.PushTarget;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 커밋된 push_outbox 항목을 채널별 lane 에서 배치 단위로 가져와 병렬로 발송하고, 결과를 outbox 에 기록합니다.
+ *
+ * <p>매 배치마다 대기 중인 lane 중 우선순위가 가장 높은 lane 을 고르므로, ALERT 가 쌓이면 INFO 는 현재 배치가 끝난 뒤
+ * 밀려납니다. 낮은 lane 이 {@code push.lane.max-wait-ms} 이상 기다렸거나 {@code
+ * push.lane.max-consecutive-batches} 번 연속으로 밀리면 한 배치를 양보받습니다. (starvation guard)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class PushOutboxDispatcher {
+    private static final Duration MIN_PARK_DURATION = Duration.ofSeconds(1);
+
+    /** 우선순위가 높은 순서 */
+    private static final List<PushChannel> LANES = List.of(PushChannel.ALERT, PushChannel.INFO);
+
+    private final PushOutboxService pushOutboxService;
+    private final PushService pushService;
+    private final PushLaneMetrics pushLaneMetrics;
+
+    @Value("${push.outbox.batch-size:100}")
+    private int batchSize;
+
+    // 낮은 lane 의 배치를 작게 잡아 ALERT 가 기다리는 시간을 줄인다
+    @Value("${push.lane.low-priority-batch-size:20}")
+    private int lowPriorityBatchSize;
+
+    @Value("${push.lane.max-wait-ms:10000}")
+    private long maxWaitMs;
+
+    @Value("${push.lane.max-consecutive-batches:8}")
+    private int maxConsecutiveBatches;
+
+    // 스케줄러 스레드에서만 접근한다
+    private int preemptedBatches = 0;
+
+    @Scheduled(fixedDelayString = "${push.outbox.poll-interval-ms:500}")
+    public void drain() {
+        PushChannel lane = nextLane();
+        // 다른 인스턴스가 먼저 가져가 배치가 비면 다음 주기에 다시 확인한다
+        while (lane != null && dispatchBatch(lane)) {
+            lane = nextLane();
+        }
+    }
+
+    private boolean dispatchBatch(PushChannel lane) {
+        List<PushOutbox> claimed =
+                pushOutboxService.claimBatch(
+                        lane, lane == LANES.get(0) ? batchSize : lowPriorityBatchSize);
+        claimed.stream()
+                .filter(outbox -> outbox.getAttempts() == 1)
+                .forEach(outbox -> pushLaneMetrics.recordWait(lane, outbox.getCreatedAt()));
+        List<CompletableFuture<Runnable>> dispatches =
+                claimed.stream().map(this::dispatch).toList();
+        // 게이트웨이 호출은 병렬로 진행되고, 결과 기록(DB)은 이 스레드에서 순차적으로 수행한다
+        dispatches.forEach(dispatch -> dispatch.join().run());
+        return !claimed.isEmpty();
+    }
+
+    /** 다음에 처리할 lane. 대기 중인 항목이 없으면 null 을 반환합니다. */
+    private PushChannel nextLane() {
+        Map<PushChannel, PushLaneBacklog> backlogs = pushOutboxService.getBacklogs();
+        pushLaneMetrics.updateBacklogs(backlogs);
+
+        List<PushChannel> waiting =
+                LANES.stream()
+                        .filter(backlogs::containsKey)
+                        .filter(lane -> backlogs.get(lane).depth() > 0)
+                        .toList();
+        if (waiting.isEmpty()) {
+            preemptedBatches = 0;
+            return null;
+        }
+        if (waiting.size() == 1) {
+            preemptedBatches = 0;
+            return waiting.get(0);
+        }
+
+        LocalDateTime waitLimit = LocalDateTime.now().minus(Duration.ofMillis(maxWaitMs));
+        for (PushChannel lane : waiting.subList(1, waiting.size())) {
+            boolean waitedTooLong = backlogs.get(lane).oldestAt().isBefore(waitLimit);
+            // 오래 기다린 lane 도 높은 lane 과 번갈아 처리하여 높은 lane 이 최소 절반의 배치를 가져가도록 한다
+            if (preemptedBatches >= maxConsecutiveBatches
+                    || (waitedTooLong && preemptedBatches > 0)) {
+                preemptedBatches = 0;
+                return lane;
+            }
+        }
+        preemptedBatches++;
+        return waiting.get(0);
+    }
+
+    @Scheduled(cron = "${push.outbox.purge-cron:0 0 4 * * *}")
+    public void purge() {
+        int purged = pushOutboxService.purgeFinished();
+        if (purged > 0) {
+            log.info("Purged {} finished push outbox entries", purged);
+        }
+    }
+
+    private CompletableFuture<Runnable> dispatch(PushOutbox outbox) {
+        try {
+            CompletableFuture<Runnable> recorder =
+                    switch (outbox.getTarget()) {
+                        case DEVICE ->
+                                sendToDevice(outbox)
+                                        .thenApply(r -> (Runnable) () -> recordResult(outbox, r));
+                        case MEMBER, SENIOR ->
+                                sendBatch(outbox)
+                                        .thenApply(r -> (Runnable) () -> recordResult(outbox, r));
+                        case SENIOR_CAREGIVERS ->
+                                sendToCaregivers(outbox)
+                                        .thenApply(r -> (Runnable) () -> recordResult(outbox, r));
+                    };
+            return recorder.exceptionally(e -> () -> recordFailure(outbox, e));
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(() -> recordFailure(outbox, e));
+        }
+    }
+
+    private CompletableFuture<PushDeliveryResult> sendToDevice(PushOutbox outbox) {
+        return pushService.sendPushToDevice(
+                outbox.getTargetUuid(),
+                outbox.getChannel(),
+                outbox.getTitle(),
+                outbox.getBody(),
+                Optional.ofNullable(outbox.getData()));
+    }
+
+    private CompletableFuture<PushBatchProcessResult> sendBatch(PushOutbox outbox) {
+        return pushService.pushBatch(
+                outbox.getTarget().toRole(),
+                outbox.getTargetUuid(),
+                outbox.getChannel(),
+                outbox.getTitle(),
+                outbox.getBody(),
+                Optional.ofNullable(outbox.getData()));
+    }
+
+    private CompletableFuture<PushBatchProcessResult> sendToCaregivers(PushOutbox outbox) {
+        return pushService.pushToCaregivers(
+                outbox.getTargetUuid(),
+                outbox.getChannel(),
+                outbox.getTitle(),
+                outbox.getBody(),
+                Optional.ofNullable(outbox.getData()));
+    }
+
+    private void recordFailure(PushOutbox outbox, Throwable e) {
+        log.warn("Push outbox {} dispatch failed: {}", outbox.getUuid(), e.getMessage());
+        pushOutboxService.markFailed(outbox.getUuid(), e.getMessage(), null);
+    }
+
+    private void recordResult(PushOutbox outbox, PushDeliveryResult result) {
+        if (result.isSuccess()) {
+            markSent(outbox);
+        } else if (result.getStatus() == PushDeliveryResult.Status.UNAVAILABLE
+                && result.getErrorCode() == null) {
+            pushOutboxService.markSkipped(outbox.getUuid(), result.getStatus().name());
+        } else {
+            recordUndelivered(outbox, List.of(result));
+        }
+    }
+
+    private void recordResult(PushOutbox outbox, PushBatchProcessResult result) {
+        switch (result.getStatus()) {
+            case ALL_SENT -> markSent(outbox);
+            case PARTIALLY_SENT -> {
+                markSent(outbox);
+                requeueRetryable(outbox, result.getDetails());
+            }
+            case NOT_FOUND, NO_DEVICE ->
+                    pushOutboxService.markSkipped(outbox.getUuid(), result.getStatus().name());
+            default -> recordUndelivered(outbox, result.getDetails());
+        }
+    }
+
+    /**
+     * 일부만 전달된 경우: 이미 받은 디바이스에 다시 보내지 않도록, 일시적 오류로 실패한 디바이스마다 DEVICE 대상 항목을 새로 만들어
+     * 재시도합니다.
+     */
+    private void requeueRetryable(PushOutbox outbox, List<PushDeliveryResult> details) {
+        List<String> deviceUuids =
+                details.stream()
+                        .filter(PushDeliveryResult::isRetryable)
+                        .map(PushDeliveryResult::getDeviceUuid)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList();
+        deviceUuids.forEach(
+                deviceUuid ->
+                        pushOutboxService.enqueue(
+                                PushTarget.DEVICE,
+                                deviceUuid,
+                                outbox.getChannel(),
+                                outbox.getTitle(),
+                                outbox.getBody(),
+                                Optional.ofNullable(outbox.getData())));
+        if (!deviceUuids.isEmpty()) {
+            log.info(
+                    "Push outbox {} partially sent, retrying {} devices",
+                    outbox.getUuid(),
+                    deviceUuids.size());
+        }
+    }
+
+    private void markSent(PushOutbox outbox) {
+        pushOutboxService.markSent(outbox.getUuid());
+        pushLaneMetrics.recordDelivery(outbox.getChannel(), outbox.getCreatedAt());
+    }
+
+    /** 한 건도 전달되지 않은 경우: 서킷 OPEN 이면 보류, 일시적 오류면 재시도 예약, 그 외에는 실패로 종료합니다. */
+    private void recordUndelivered(PushOutbox outbox, List<PushDeliveryResult> details) {
+        String error =
+                details.stream()
+                        .map(PushDeliveryResult::getException)
+                        .filter(Objects::nonNull)
+                        .map(Exception::getMessage)
+                        .findFirst()
+                        .orElse(PushBatchProcessResult.Status.NON_SENT.name());
+        Duration retryAfter =
+                details.stream()
+                        .map(PushDeliveryResult::getRetryAfter)
+                        .filter(Objects::nonNull)
+                        .max(Comparator.naturalOrder())
+                        .orElse(null);
+        if (details.stream().allMatch(d -> d.getErrorCode() == PushErrorCode.CIRCUIT_OPEN)) {
+            // HALF_OPEN 시험 호출이 진행 중이면 남은 시간이 0 이므로 최소 대기 시간을 둔다
+            Duration parkFor =
+                    retryAfter == null || retryAfter.compareTo(MIN_PARK_DURATION) < 0
+                            ? MIN_PARK_DURATION
+                            : retryAfter;
+            pushOutboxService.park(outbox.getUuid(), parkFor, error);
+        } else if (details.stream().anyMatch(PushDeliveryResult::isRetryable)) {
+            pushOutboxService.markFailed(outbox.getUuid(), error, retryAfter);
+        } else {
+            pushOutboxService.markDead(outbox.getUuid(), error);
+        }
+    }
+}
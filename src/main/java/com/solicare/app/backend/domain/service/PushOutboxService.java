@@ -0,0 +1,131 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.application.enums.PushChannel;
+import com.solicare.app.backend.domain.dto.push.PushLaneBacklog;
+import com.solicare.app.backend.domain.entity.PushOutbox;
+import com.solicare.app.backend.domain.enums.PushOutboxStatus;
+import com.solicare.app.backend.domain.enums.PushTarget;
+import com.solicare.app.backend.domain.repository.PushOutboxRepository;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/** 푸시 발송 요청을 호출자의 트랜잭션 안에서 push_outbox 에 기록하고, 디스패처의 상태 전이를 관리합니다. */
+@Service
+@Transactional
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class PushOutboxService {
+    private static final EnumSet<PushOutboxStatus> DISPATCHABLE =
+            EnumSet.of(PushOutboxStatus.PENDING, PushOutboxStatus.IN_FLIGHT);
+    private static final EnumSet<PushOutboxStatus> FINISHED =
+            EnumSet.of(PushOutboxStatus.SENT, PushOutboxStatus.SKIPPED, PushOutboxStatus.FAILED);
+
+    private final PushOutboxRepository pushOutboxRepository;
+
+    @Value("${push.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${push.outbox.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${push.outbox.retry-base-seconds:5}")
+    private long retryBaseSeconds;
+
+    @Value("${push.outbox.retry-max-seconds:600}")
+    private long retryMaxSeconds;
+
+    @Value("${push.outbox.retention-days:7}")
+    private long retentionDays;
+
+    public PushOutbox enqueue(
+            PushTarget target,
+            String targetUuid,
+            PushChannel channel,
+            String title,
+            String body,
+            Optional<Map<String, String>> data) {
+        return pushOutboxRepository.save(
+                PushOutbox.builder()
+                        .target(target)
+                        .targetUuid(targetUuid)
+                        .channel(channel)
+                        .title(title)
+                        .body(body)
+                        .data(data.orElse(null))
+                        .build());
+    }
+
+    /** 한 lane(채널)에서 발송 가능한 항목을 오래된 순서로 최대 {@code limit} 건 가져와 처리 중으로 표시합니다. */
+    public List<PushOutbox> claimBatch(PushChannel lane, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        return pushOutboxRepository
+                .findDispatchable(DISPATCHABLE, lane, now, PageRequest.of(0, limit))
+                .stream()
+                .map(outbox -> outbox.claim(leaseUntil))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public Map<PushChannel, PushLaneBacklog> getBacklogs() {
+        Map<PushChannel, PushLaneBacklog> backlogs = new EnumMap<>(PushChannel.class);
+        pushOutboxRepository
+                .findBacklogs(DISPATCHABLE, LocalDateTime.now())
+                .forEach(backlog -> backlogs.put(backlog.channel(), backlog));
+        return backlogs;
+    }
+
+    public void markSent(String outboxUuid) {
+        pushOutboxRepository.findById(outboxUuid).ifPresent(PushOutbox::markSent);
+    }
+
+    public void markSkipped(String outboxUuid, String reason) {
+        pushOutboxRepository.findById(outboxUuid).ifPresent(outbox -> outbox.markSkipped(reason));
+    }
+
+    /**
+     * 일시적 실패로 기록하고 지수 백오프(+지터) 후 다시 발송합니다. 게이트웨이가 Retry-After 를 준 경우 그 이후로 예약합니다.
+     */
+    public void markFailed(String outboxUuid, String error, Duration retryAfter) {
+        pushOutboxRepository
+                .findById(outboxUuid)
+                .ifPresent(
+                        outbox -> {
+                            Duration delay =
+                                    PushRetryPolicy.jittered(
+                                            Duration.ofSeconds(retryBaseSeconds),
+                                            Duration.ofSeconds(retryMaxSeconds),
+                                            outbox.getAttempts(),
+                                            retryAfter);
+                            outbox.markFailed(error, LocalDateTime.now().plus(delay), maxAttempts);
+                        });
+    }
+
+    public void park(String outboxUuid, Duration retryAfter, String reason) {
+        pushOutboxRepository
+                .findById(outboxUuid)
+                .ifPresent(outbox -> outbox.park(LocalDateTime.now().plus(retryAfter), reason));
+    }
+
+    public void markDead(String outboxUuid, String error) {
+        pushOutboxRepository.findById(outboxUuid).ifPresent(outbox -> outbox.markDead(error));
+    }
+
+    public int purgeFinished() {
+        return pushOutboxRepository.deleteFinishedBefore(
+                FINISHED, LocalDateTime.now().minusDays(retentionDays));
+    }
+}
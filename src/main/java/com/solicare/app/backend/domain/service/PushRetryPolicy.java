@@ -0,0 +1,53 @@
+package com.solicare.app.backend.domain.service;
+
+import lombok.Getter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/** 일시적 푸시 오류에 대한 지수 백오프(+지터) 정책. 게이트웨이가 Retry-After 를 준 경우 그보다 먼저 재시도하지 않습니다. */
+@Component
+public class PushRetryPolicy {
+    @Getter private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+
+    public PushRetryPolicy(
+            @Value("${push.retry.max-attempts:3}") int maxAttempts,
+            @Value("${push.retry.base-delay-ms:200}") long baseDelayMs,
+            @Value("${push.retry.max-delay-ms:5000}") long maxDelayMs) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = Duration.ofMillis(baseDelayMs);
+        this.maxDelay = Duration.ofMillis(maxDelayMs);
+    }
+
+    /**
+     * attempt 번째 시도가 실패한 뒤 기다릴 시간. equal jitter: [backoff/2, backoff) 범위에서 무작위로 선택합니다.
+     *
+     * @param attempt 1부터 시작하는 시도 횟수
+     * @param retryAfter 게이트웨이가 요구한 최소 대기 시간 (없으면 null)
+     */
+    public Duration backoff(int attempt, Duration retryAfter) {
+        return jittered(baseDelay, maxDelay, attempt, retryAfter);
+    }
+
+    /** 프로세스 내에서 기다렸다가 재시도할 수 있는지 여부 (너무 긴 대기는 outbox 재시도로 넘긴다) */
+    public boolean canRetryInProcess(int attempt, Duration delay) {
+        return attempt < maxAttempts && delay.compareTo(maxDelay) <= 0;
+    }
+
+    public static Duration jittered(
+            Duration base, Duration max, int attempt, Duration retryAfter) {
+        long exponential = base.toMillis() << Math.min(Math.max(attempt - 1, 0), 20);
+        long capped = Math.min(exponential, max.toMillis());
+        long half = capped / 2;
+        Duration delay = Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+        if (retryAfter != null && retryAfter.compareTo(delay) > 0) {
+            return retryAfter;
+        }
+        return delay;
+    }
+}
@@ -1,11 +1,12 @@
 package com.solicare.app.backend.domain.service;
 
-import com.solicare.app.backend.application.dto.res.DeviceResponseDTO;
 import com.solicare.app.backend.application.enums.PushChannel;
-import com.solicare.app.backend.application.mapper.DeviceMapper;
 import com.solicare.app.backend.domain.dto.push.PushBatchProcessResult;
 import com.solicare.app.backend.domain.dto.push.PushDeliveryResult;
+import com.solicare.app.backend.domain.dto.push.PushMessage;
+import com.solicare.app.backend.domain.dto.push.PushTargetDevice;
 import com.solicare.app.backend.domain.entity.Device;
+import com.solicare.app.backend.domain.enums.PushErrorCode;
 import com.solicare.app.backend.domain.enums.PushMethod;
 import com.solicare.app.backend.domain.enums.Role;
 import com.solicare.app.backend.domain.repository.DeviceRepository;
@@ -18,23 +19,42 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
+/**
+ * 디바이스 조회는 호출 스레드(트랜잭션)에서 수행하고, 게이트웨이 호출은 {@link PushExecutor} 에서 비동기로 수행합니다. 반환된
+ * future 가 완료될 때 DB 커넥션은 이미 반환된 상태입니다.
+ */
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class PushService {
-    private final FirebaseService firebaseService;
+    private final PushGatewayRegistry pushGatewayRegistry;
     private final MemberRepository memberRepository;
     private final SeniorRepository seniorRepository;
     private final DeviceRepository deviceRepository;
-    private final DeviceMapper deviceMapper;
+    private final PushTokenPruner pushTokenPruner;
+    private final PushExecutor pushExecutor;
+    private final PushCircuitBreaker pushCircuitBreaker;
+    private final PushRetryPolicy pushRetryPolicy;
+    private final PushTopicService pushTopicService;
+    private final PushTopicReconciler pushTopicReconciler;
 
-    public PushDeliveryResult sendPushToDevice(
+    public CompletableFuture<PushDeliveryResult> sendPushToDevice(
             String deviceUuid,
             PushChannel channel,
             String title,
@@ -42,22 +62,45 @@ public class PushService {
             Optional<Map<String, String>> data) {
         Optional<Device> deviceOpt = deviceRepository.findByUuid(deviceUuid);
         if (deviceOpt.isEmpty()) {
-            return PushDeliveryResult.of(
-                    PushDeliveryResult.Status.UNAVAILABLE,
-                    new IllegalArgumentException("Device not found"));
-        }
-        if (Objects.requireNonNull(deviceOpt.get().getPushMethod()) == PushMethod.FCM) {
-            return firebaseService.sendMessageTo(
-                    deviceOpt.get().getToken(), channel, title, message, data);
+            return CompletableFuture.completedFuture(
+                    PushDeliveryResult.of(
+                            PushDeliveryResult.Status.UNAVAILABLE,
+                            new IllegalArgumentException("Device not found")));
         }
+        Device device = deviceOpt.get();
+        return sendPushToToken(
+                        device.getPushMethod(), device.getToken(), channel, title, message, data)
+                .thenApply(
+                        result -> {
+                            if (result.isDeadToken()) {
+                                pushTokenPruner.report(deviceUuid, device.getToken());
+                            }
+                            return result;
+                        });
+    }
 
-        return PushDeliveryResult.of(
-                PushDeliveryResult.Status.ERROR,
-                new IllegalArgumentException(
-                        "Unsupported push type: " + deviceOpt.get().getPushMethod()));
+    /** 등록 여부와 관계없이 토큰으로 직접 발송합니다. 죽은 토큰이어도 디바이스 정리는 하지 않습니다. */
+    public CompletableFuture<PushDeliveryResult> sendPushToToken(
+            PushMethod pushMethod,
+            String token,
+            PushChannel channel,
+            String title,
+            String message,
+            Optional<Map<String, String>> data) {
+        Optional<PushGateway> gatewayOpt =
+                pushGatewayRegistry.find(Objects.requireNonNull(pushMethod));
+        if (gatewayOpt.isEmpty()) {
+            return CompletableFuture.completedFuture(unsupported(pushMethod));
+        }
+        return sendResilient(
+                        gatewayOpt.get(),
+                        List.of(token),
+                        PushMessage.of(channel, title, message, data),
+                        1)
+                .thenApply(results -> results.get(0));
     }
 
-    public PushBatchProcessResult pushBatch(
+    public CompletableFuture<PushBatchProcessResult> pushBatch(
             Role role,
             String uuid,
             PushChannel channel,
@@ -65,37 +108,270 @@ public class PushService {
             String message,
             Optional<Map<String, String>> data) {
         if (!existsByRoleAndUuid(role, uuid)) {
-            return PushBatchProcessResult.of(null, PushBatchProcessResult.Status.NOT_FOUND);
+            return CompletableFuture.completedFuture(
+                    PushBatchProcessResult.of(null, PushBatchProcessResult.Status.NOT_FOUND));
         }
 
-        List<DeviceResponseDTO.Info> enabledDevices =
+        List<Device> enabledDevices =
                 switch (role) {
-                    case MEMBER ->
-                            deviceRepository.findByMember_Uuid(uuid).stream()
-                                    .map(deviceMapper::from)
-                                    .collect(Collectors.toList());
-                    case SENIOR ->
-                            deviceRepository.findBySenior_Uuid(uuid).stream()
-                                    .map(deviceMapper::from)
-                                    .collect(Collectors.toList());
+                    case MEMBER -> deviceRepository.findByMember_Uuid(uuid);
+                    case SENIOR -> deviceRepository.findBySenior_Uuid(uuid);
                     default -> throw new IllegalArgumentException("Invalid role: " + role);
                 };
+        return deliver(
+                enabledDevices.stream().map(PushTargetDevice::from).toList(),
+                PushMessage.of(channel, title, message, data));
+    }
+
+    /**
+     * 시니어를 모니터링하는 모든 보호자의 디바이스로, 단일 조회 후 한 번에 발송합니다. 토픽 모드에서는 {@code senior-{uuid}}
+     * 토픽으로 1건만 발송하고, 아직 구독이 반영되지 않은 디바이스에만 직접 발송합니다. 더 이상 보호자의 것이 아닌 디바이스가 아직
+     * 토픽에 구독되어 있으면 (연결 해제, 다른 회원으로 이전, 삭제 후 조정 전) 토픽을 쓰지 않고 모든 디바이스로 직접 발송합니다.
+     */
+    public CompletableFuture<PushBatchProcessResult> pushToCaregivers(
+            String seniorUuid,
+            PushChannel channel,
+            String title,
+            String message,
+            Optional<Map<String, String>> data) {
+        List<PushTargetDevice> devices =
+                deviceRepository.findCaregiverDevicesBySeniorUuid(seniorUuid);
+        PushMessage pushMessage = PushMessage.of(channel, title, message, data);
+        Optional<PushTopicGateway> topicGatewayOpt =
+                pushTopicReconciler.isEnabled()
+                        ? pushGatewayRegistry.findTopicGateway(PushMethod.FCM)
+                        : Optional.empty();
+        if (topicGatewayOpt.isEmpty()) {
+            return deliver(devices, pushMessage);
+        }
+        Set<PushTargetDevice> subscribed = pushTopicService.findSubscribedDevices(seniorUuid);
+        if (!new HashSet<>(devices).containsAll(subscribed)) {
+            // 토픽이 받아서는 안 되는 디바이스에도 닿으므로 조정이 끝날 때까지 직접 발송한다
+            pushTopicReconciler.onCareChanged(seniorUuid);
+            return deliver(devices, pushMessage);
+        }
+        List<PushTargetDevice> unsubscribed =
+                devices.stream().filter(device -> !subscribed.contains(device)).toList();
+        if (unsubscribed.size() == devices.size()) {
+            return deliver(devices, pushMessage);
+        }
+
+        String topic = PushTopicService.seniorTopic(seniorUuid);
+        return publishResilient(topicGatewayOpt.get(), topic, pushMessage)
+                .thenCompose(
+                        topicResult -> {
+                            // 토픽 발송이 실패하면 구독 여부와 관계없이 모든 디바이스로 직접 발송한다
+                            if (!topicResult.isSuccess()) {
+                                return deliverEach(devices, pushMessage);
+                            }
+                            return deliverEach(unsubscribed, pushMessage)
+                                    .thenApply(
+                                            direct -> {
+                                                List<PushDeliveryResult> results =
+                                                        new ArrayList<>(direct.size() + 1);
+                                                results.add(topicResult);
+                                                results.addAll(direct);
+                                                return results;
+                                            });
+                        })
+                .thenApply(results -> PushBatchProcessResult.of(results).setStatusByDetails());
+    }
+
+    private CompletableFuture<PushBatchProcessResult> deliver(
+            List<PushTargetDevice> devices, PushMessage pushMessage) {
+        return deliverEach(devices, pushMessage)
+                .thenApply(results -> PushBatchProcessResult.of(results).setStatusByDetails());
+    }
+
+    /**
+     * 디바이스를 발송 방식별로 나누어 각 게이트웨이로 발송하고, 입력 디바이스 순서대로 디바이스 uuid 를 붙인 결과를 돌려줍니다.
+     */
+    private CompletableFuture<List<PushDeliveryResult>> deliverEach(
+            List<PushTargetDevice> devices, PushMessage pushMessage) {
+        // 발송 방식별 디바이스의 입력 위치
+        Map<PushMethod, List<Integer>> indexesByMethod = new EnumMap<>(PushMethod.class);
+        for (int i = 0; i < devices.size(); i++) {
+            indexesByMethod
+                    .computeIfAbsent(devices.get(i).pushMethod(), k -> new ArrayList<>())
+                    .add(i);
+        }
 
-        List<PushDeliveryResult> pushDeliveryResults =
-                enabledDevices.stream()
-                        .map(
-                                device -> {
-                                    if (Objects.requireNonNull(device.type()) == PushMethod.FCM) {
-                                        return firebaseService.sendMessageTo(
-                                                device.token(), channel, title, message, data);
-                                    }
-                                    return PushDeliveryResult.of(
-                                            PushDeliveryResult.Status.ERROR,
-                                            new IllegalArgumentException(
-                                                    "Unsupported push type: " + device.type()));
-                                })
-                        .toList();
-        return PushBatchProcessResult.of(pushDeliveryResults).setStatusByDetails();
+        Map<PushMethod, CompletableFuture<List<PushDeliveryResult>>> methodFutures =
+                new EnumMap<>(PushMethod.class);
+        indexesByMethod.forEach(
+                (pushMethod, indexes) -> {
+                    Optional<PushGateway> gatewayOpt = pushGatewayRegistry.find(pushMethod);
+                    methodFutures.put(
+                            pushMethod,
+                            gatewayOpt.isPresent()
+                                    ? deliver(
+                                            gatewayOpt.get(),
+                                            indexes.stream().map(devices::get).toList(),
+                                            pushMessage)
+                                    : CompletableFuture.completedFuture(
+                                            Collections.nCopies(
+                                                    indexes.size(), unsupported(pushMethod))));
+                });
+
+        return CompletableFuture.allOf(methodFutures.values().toArray(CompletableFuture[]::new))
+                .thenApply(
+                        ignored -> {
+                            PushDeliveryResult[] results = new PushDeliveryResult[devices.size()];
+                            indexesByMethod.forEach(
+                                    (pushMethod, indexes) -> {
+                                        List<PushDeliveryResult> methodResults =
+                                                methodFutures.get(pushMethod).join();
+                                        for (int i = 0; i < indexes.size(); i++) {
+                                            int index = indexes.get(i);
+                                            results[index] =
+                                                    methodResults
+                                                            .get(i)
+                                                            .withDeviceUuid(
+                                                                    devices.get(index).uuid());
+                                        }
+                                    });
+                            return Arrays.asList(results);
+                        });
+    }
+
+    /** 게이트웨이의 최대 배치 크기 단위로 나누어 병렬 발송하고, 디바이스 순서대로 결과를 돌려줍니다. */
+    private CompletableFuture<List<PushDeliveryResult>> deliver(
+            PushGateway gateway, List<PushTargetDevice> devices, PushMessage message) {
+        int batchSize = gateway.getMaxBatchSize();
+        List<CompletableFuture<List<PushDeliveryResult>>> chunkFutures = new ArrayList<>();
+        for (int from = 0; from < devices.size(); from += batchSize) {
+            List<String> tokens =
+                    devices.subList(from, Math.min(from + batchSize, devices.size())).stream()
+                            .map(PushTargetDevice::token)
+                            .toList();
+            chunkFutures.add(sendResilient(gateway, tokens, message, 1));
+        }
+        return CompletableFuture.allOf(chunkFutures.toArray(CompletableFuture[]::new))
+                .thenApply(
+                        ignored -> {
+                            List<PushDeliveryResult> results = new ArrayList<>(devices.size());
+                            chunkFutures.forEach(future -> results.addAll(future.join()));
+                            reportDeadTokens(devices, results);
+                            return results;
+                        });
+    }
+
+    /**
+     * 서킷 브레이커를 거쳐 multicast 를 발송하고, 일시적 오류로 실패한 토큰만 백오프 후 다시 발송합니다. 대기 시간이 너무 길거나
+     * 서킷이 열려 있으면 실패 결과를 그대로 돌려주어 outbox 가 나중에 재시도하도록 합니다.
+     */
+    private CompletableFuture<List<PushDeliveryResult>> sendResilient(
+            PushGateway gateway, List<String> tokens, PushMessage message, int attempt) {
+        if (!pushCircuitBreaker.tryAcquire()) {
+            return CompletableFuture.completedFuture(
+                    Collections.nCopies(tokens.size(), circuitOpen()));
+        }
+        return submitAcquired(message.channel(), () -> gateway.send(tokens, message))
+                .thenCompose(
+                        results -> {
+                            pushCircuitBreaker.record(results);
+                            List<Integer> retryIndexes =
+                                    IntStream.range(0, results.size())
+                                            .filter(i -> results.get(i).isRetryable())
+                                            .boxed()
+                                            .toList();
+                            if (retryIndexes.isEmpty()) {
+                                return CompletableFuture.completedFuture(results);
+                            }
+                            Duration retryAfter =
+                                    retryIndexes.stream()
+                                            .map(i -> results.get(i).getRetryAfter())
+                                            .filter(Objects::nonNull)
+                                            .max(Comparator.naturalOrder())
+                                            .orElse(null);
+                            Duration delay = pushRetryPolicy.backoff(attempt, retryAfter);
+                            if (!pushRetryPolicy.canRetryInProcess(attempt, delay)) {
+                                return CompletableFuture.completedFuture(results);
+                            }
+                            List<String> retryTokens =
+                                    retryIndexes.stream().map(tokens::get).toList();
+                            return pushExecutor
+                                    .delay(delay)
+                                    .thenCompose(
+                                            ignored ->
+                                                    sendResilient(
+                                                            gateway,
+                                                            retryTokens,
+                                                            message,
+                                                            attempt + 1))
+                                    .thenApply(
+                                            retried -> {
+                                                List<PushDeliveryResult> merged =
+                                                        new ArrayList<>(results);
+                                                for (int i = 0; i < retryIndexes.size(); i++) {
+                                                    merged.set(retryIndexes.get(i), retried.get(i));
+                                                }
+                                                return merged;
+                                            });
+                        });
+    }
+
+    private CompletableFuture<PushDeliveryResult> publishResilient(
+            PushTopicGateway gateway, String topic, PushMessage message) {
+        if (!pushCircuitBreaker.tryAcquire()) {
+            return CompletableFuture.completedFuture(circuitOpen());
+        }
+        return submitAcquired(message.channel(), () -> gateway.publish(topic, message))
+                .thenApply(
+                        result -> {
+                            pushCircuitBreaker.record(List.of(result));
+                            return result;
+                        });
+    }
+
+    /**
+     * 서킷 브레이커를 통과한 게이트웨이 호출을 실행합니다. 게이트웨이 예외나 실행 거부로 끝나면 record 가 호출되지 않으므로 여기서
+     * 장애로 기록하여 HALF_OPEN 의 시험 호출이 풀리게 합니다.
+     */
+    private <T> CompletableFuture<T> submitAcquired(PushChannel lane, Supplier<T> call) {
+        CompletableFuture<T> future;
+        try {
+            future = pushExecutor.submit(lane, call);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete(
+                (result, throwable) -> {
+                    if (throwable != null) {
+                        pushCircuitBreaker.onFailure();
+                    }
+                });
+    }
+
+    private PushDeliveryResult circuitOpen() {
+        return PushDeliveryResult.of(
+                PushDeliveryResult.Status.UNAVAILABLE,
+                PushErrorCode.CIRCUIT_OPEN,
+                pushCircuitBreaker.getRemainingOpenDuration(),
+                new IllegalStateException("Push circuit is open"));
+    }
+
+    private void reportDeadTokens(
+            List<PushTargetDevice> devices, List<PushDeliveryResult> results) {
+        // 여러 토큰이 모두 INVALID_ARGUMENT 로 실패했다면 토큰이 아닌 메시지 자체의 문제로 본다
+        boolean payloadRejected =
+                results.size() > 1
+                        && results.stream()
+                                .allMatch(r -> r.getErrorCode() == PushErrorCode.INVALID_ARGUMENT);
+        for (int i = 0; i < results.size(); i++) {
+            PushDeliveryResult result = results.get(i);
+            if (result.isDeadToken()
+                    && !(payloadRejected
+                            && result.getErrorCode() == PushErrorCode.INVALID_ARGUMENT)) {
+                pushTokenPruner.report(devices.get(i).uuid(), devices.get(i).token());
+            }
+        }
+    }
+
+    private PushDeliveryResult unsupported(PushMethod pushMethod) {
+        return PushDeliveryResult.of(
+                PushDeliveryResult.Status.ERROR,
+                new IllegalArgumentException("Unsupported push type: " + pushMethod));
     }
 
     // TODO: extract this method and remove duplicated code in Service classes
@@ -0,0 +1,82 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.domain.repository.DeviceRepository;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 발송 결과에서 만료된 토큰을 모아 두었다가 주기적으로 디바이스를 일괄 삭제합니다. (write-behind) 그 사이에 토큰이 갱신된
+ * 디바이스는 지우지 않도록 디바이스와 보고된 토큰을 함께 모읍니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class PushTokenPruner {
+    private final Set<DeadToken> pending = ConcurrentHashMap.newKeySet();
+    private final DeviceRepository deviceRepository;
+
+    @Value("${push.prune.batch-size:500}")
+    private int batchSize;
+
+    @Value("${push.prune.max-pending:10000}")
+    private int maxPending;
+
+    private record DeadToken(String deviceUuid, String token) {}
+
+    public void report(String deviceUuid, String token) {
+        // 한도를 넘으면 버려도 다음 발송에서 다시 보고된다
+        if (pending.size() < maxPending) {
+            pending.add(new DeadToken(deviceUuid, token));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${push.prune.interval-ms:10000}")
+    public void flush() {
+        int pruned = 0;
+        List<DeadToken> batch = nextBatch();
+        while (!batch.isEmpty()) {
+            try {
+                pruned +=
+                        deviceRepository.deleteByUuidInAndTokenIn(
+                                batch.stream().map(DeadToken::deviceUuid).toList(),
+                                batch.stream().map(DeadToken::token).toList());
+            } catch (Exception e) {
+                log.warn("Failed to prune {} dead push devices: {}", batch.size(), e.getMessage());
+                return;
+            }
+            batch = nextBatch();
+        }
+        if (pruned > 0) {
+            log.info("Pruned {} devices with dead push tokens", pruned);
+        }
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+
+    private List<DeadToken> nextBatch() {
+        List<DeadToken> batch = new ArrayList<>(batchSize);
+        Iterator<DeadToken> iterator = pending.iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+}
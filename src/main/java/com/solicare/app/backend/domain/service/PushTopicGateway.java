@@ -0,0 +1,19 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.domain.dto.push.PushDeliveryResult;
+import com.solicare.app.backend.domain.dto.push.PushMessage;
+
+import java.util.List;
+
+/** 토픽 구독과 토픽 발송을 지원하는 게이트웨이. 토픽 1건 발송으로 구독한 모든 토큰에 전달됩니다. */
+public interface PushTopicGateway extends PushGateway {
+    /** {@link #subscribe} / {@link #unsubscribe} 1회 호출에 넘길 수 있는 최대 토큰 수 */
+    int getMaxTopicBatchSize();
+
+    /** 결과는 입력 토큰과 같은 순서, 같은 개수로 반환합니다. */
+    List<PushDeliveryResult> subscribe(String topic, List<String> tokens);
+
+    List<PushDeliveryResult> unsubscribe(String topic, List<String> tokens);
+
+    PushDeliveryResult publish(String topic, PushMessage message);
+}
@@ -0,0 +1,202 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.application.enums.PushChannel;
+import com.solicare.app.backend.domain.dto.push.PushDeliveryResult;
+import com.solicare.app.backend.domain.dto.push.PushTargetDevice;
+import com.solicare.app.backend.domain.dto.push.PushTopicPlan;
+import com.solicare.app.backend.domain.entity.PushTopicSubscription;
+import com.solicare.app.backend.domain.enums.PushMethod;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * 토픽 모드({@code push.topic.enabled})에서 보호 관계나 디바이스가 바뀐 시니어를 모아 두었다가, 백그라운드에서 보호자 디바이스의
+ * {@code senior-{uuid}} 토픽 구독을 원하는 상태로 맞춥니다. 변경 표시가 유실되어도 주기적인 전체 점검으로 복구됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class PushTopicReconciler {
+    private final Set<String> dirtySeniorUuids = ConcurrentHashMap.newKeySet();
+    private final PushTopicService pushTopicService;
+    private final PushGatewayRegistry pushGatewayRegistry;
+    private final PushExecutor pushExecutor;
+    private final PushTokenPruner pushTokenPruner;
+
+    @Value("${push.topic.enabled:false}")
+    private boolean enabled;
+
+    @Value("${push.topic.reconcile-batch-size:100}")
+    private int batchSize;
+
+    public boolean isEnabled() {
+        return enabled && pushGatewayRegistry.findTopicGateway(PushMethod.FCM).isPresent();
+    }
+
+    /** 보호 관계가 바뀐 시니어. 호출자의 트랜잭션이 커밋된 뒤에 조정 대상이 됩니다. */
+    public void onCareChanged(String seniorUuid) {
+        if (isEnabled()) {
+            markDirty(List.of(seniorUuid));
+        }
+    }
+
+    /** 회원의 디바이스가 연결/해제/갱신/삭제되면 그 회원이 보호하는 모든 시니어의 토픽이 바뀝니다. */
+    public void onMemberDevicesChanged(String memberUuid) {
+        if (isEnabled() && memberUuid != null) {
+            markDirty(pushTopicService.findSeniorUuidsByMemberUuid(memberUuid));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${push.topic.reconcile-interval-ms:5000}")
+    public void reconcileDirty() {
+        Optional<PushTopicGateway> gatewayOpt =
+                pushGatewayRegistry.findTopicGateway(PushMethod.FCM);
+        if (!enabled || gatewayOpt.isEmpty()) {
+            return;
+        }
+        // 일시적 오류로 끝나지 않은 시니어는 다음 주기에 다시 조정한다
+        List<String> incomplete = new ArrayList<>();
+        List<String> batch = nextBatch();
+        while (!batch.isEmpty()) {
+            for (String seniorUuid : batch) {
+                try {
+                    if (!reconcile(gatewayOpt.get(), seniorUuid)) {
+                        incomplete.add(seniorUuid);
+                    }
+                } catch (Exception e) {
+                    log.warn("Failed to reconcile push topic {}: {}", seniorUuid, e.getMessage());
+                    incomplete.add(seniorUuid);
+                }
+            }
+            batch = nextBatch();
+        }
+        dirtySeniorUuids.addAll(incomplete);
+    }
+
+    @Scheduled(cron = "${push.topic.sweep-cron:0 30 3 * * *}")
+    public void sweep() {
+        if (isEnabled()) {
+            dirtySeniorUuids.addAll(pushTopicService.findAllSeniorUuids());
+        }
+    }
+
+    /** 계획한 변경이 모두 반영되었으면 true. 일시적 오류로 남은 항목이 있으면 false 를 반환합니다. */
+    private boolean reconcile(PushTopicGateway gateway, String seniorUuid) {
+        PushTopicPlan plan = pushTopicService.plan(seniorUuid);
+        if (plan.isEmpty()) {
+            return true;
+        }
+        boolean complete = true;
+
+        List<PushDeliveryResult> subscribeResults =
+                call(
+                        gateway,
+                        gateway::subscribe,
+                        plan.topic(),
+                        plan.toSubscribe().stream().map(PushTargetDevice::token).toList());
+        List<PushTargetDevice> subscribed = new ArrayList<>();
+        for (int i = 0; i < subscribeResults.size(); i++) {
+            PushTargetDevice device = plan.toSubscribe().get(i);
+            PushDeliveryResult result = subscribeResults.get(i);
+            if (result.isSuccess()) {
+                subscribed.add(device);
+            } else if (result.isDeadToken()) {
+                pushTokenPruner.report(device.uuid(), device.token());
+            } else if (result.isRetryable()) {
+                complete = false;
+            }
+        }
+
+        List<PushDeliveryResult> unsubscribeResults =
+                call(
+                        gateway,
+                        gateway::unsubscribe,
+                        plan.topic(),
+                        plan.toUnsubscribe().stream()
+                                .map(PushTopicSubscription::getToken)
+                                .toList());
+        List<PushTopicSubscription> unsubscribed = new ArrayList<>();
+        for (int i = 0; i < unsubscribeResults.size(); i++) {
+            PushDeliveryResult result = unsubscribeResults.get(i);
+            // 이미 만료된 토큰은 게이트웨이에서도 구독이 사라진 것으로 본다
+            if (result.isSuccess() || result.isDeadToken()) {
+                unsubscribed.add(plan.toUnsubscribe().get(i));
+            } else if (result.isRetryable()) {
+                complete = false;
+            }
+        }
+
+        pushTopicService.apply(plan, subscribed, unsubscribed);
+        log.debug(
+                "Reconciled {}: +{}/{} -{}/{}",
+                plan.topic(),
+                subscribed.size(),
+                plan.toSubscribe().size(),
+                unsubscribed.size(),
+                plan.toUnsubscribe().size());
+        return complete;
+    }
+
+    /** 게이트웨이의 최대 배치 크기 단위로 나누어 실행기에서 호출합니다. */
+    private List<PushDeliveryResult> call(
+            PushTopicGateway gateway,
+            BiFunction<String, List<String>, List<PushDeliveryResult>> operation,
+            String topic,
+            List<String> tokens) {
+        List<PushDeliveryResult> results = new ArrayList<>(tokens.size());
+        int chunkSize = gateway.getMaxTopicBatchSize();
+        for (int from = 0; from < tokens.size(); from += chunkSize) {
+            List<String> chunk = tokens.subList(from, Math.min(from + chunkSize, tokens.size()));
+            results.addAll(
+                    pushExecutor
+                            .submit(PushChannel.INFO, () -> operation.apply(topic, chunk))
+                            .join());
+        }
+        return results;
+    }
+
+    private void markDirty(Collection<String> seniorUuids) {
+        if (seniorUuids.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dirtySeniorUuids.addAll(seniorUuids);
+            return;
+        }
+        List<String> pending = List.copyOf(seniorUuids);
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        dirtySeniorUuids.addAll(pending);
+                    }
+                });
+    }
+
+    private List<String> nextBatch() {
+        List<String> batch = new ArrayList<>(batchSize);
+        Iterator<String> iterator = dirtySeniorUuids.iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,99 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.domain.dto.push.PushTargetDevice;
+import com.solicare.app.backend.domain.dto.push.PushTopicPlan;
+import com.solicare.app.backend.domain.entity.PushTopicSubscription;
+import com.solicare.app.backend.domain.enums.PushMethod;
+import com.solicare.app.backend.domain.repository.CareRelationRepository;
+import com.solicare.app.backend.domain.repository.DeviceRepository;
+import com.solicare.app.backend.domain.repository.PushTopicSubscriptionRepository;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/** 시니어별 보호자 토픽의 원하는 구독 상태(보호자 디바이스)와 실제 구독 상태를 관리합니다. */
+@Service
+@Transactional
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class PushTopicService {
+    private static final String SENIOR_TOPIC_PREFIX = "senior-";
+
+    private final DeviceRepository deviceRepository;
+    private final CareRelationRepository careRelationRepository;
+    private final PushTopicSubscriptionRepository pushTopicSubscriptionRepository;
+
+    public static String seniorTopic(String seniorUuid) {
+        return SENIOR_TOPIC_PREFIX + seniorUuid;
+    }
+
+    @Transactional(readOnly = true)
+    public PushTopicPlan plan(String seniorUuid) {
+        Set<PushTargetDevice> desired =
+                new LinkedHashSet<>(
+                        deviceRepository.findCaregiverDevicesBySeniorUuid(seniorUuid).stream()
+                                .filter(device -> device.pushMethod() == PushMethod.FCM)
+                                .toList());
+        List<PushTopicSubscription> current =
+                pushTopicSubscriptionRepository.findBySeniorUuid(seniorUuid);
+        Set<PushTargetDevice> subscribed = new HashSet<>();
+        current.forEach(subscription -> subscribed.add(subscription.toTargetDevice()));
+
+        return new PushTopicPlan(
+                seniorUuid,
+                seniorTopic(seniorUuid),
+                desired.stream().filter(device -> !subscribed.contains(device)).toList(),
+                current.stream()
+                        .filter(subscription -> !desired.contains(subscription.toTargetDevice()))
+                        .toList());
+    }
+
+    /** 게이트웨이 호출에 성공한 변경만 반영합니다. 실패한 항목은 다음 조정 때 다시 계획됩니다. */
+    public void apply(
+            PushTopicPlan plan,
+            List<PushTargetDevice> subscribed,
+            List<PushTopicSubscription> unsubscribed) {
+        pushTopicSubscriptionRepository.deleteAllInBatch(unsubscribed);
+        pushTopicSubscriptionRepository.saveAll(
+                subscribed.stream()
+                        .map(
+                                device ->
+                                        PushTopicSubscription.builder()
+                                                .seniorUuid(plan.seniorUuid())
+                                                .topic(plan.topic())
+                                                .deviceUuid(device.uuid())
+                                                .pushMethod(device.pushMethod())
+                                                .token(device.token())
+                                                .build())
+                        .toList());
+    }
+
+    @Transactional(readOnly = true)
+    public Set<PushTargetDevice> findSubscribedDevices(String seniorUuid) {
+        Set<PushTargetDevice> subscribed = new HashSet<>();
+        pushTopicSubscriptionRepository
+                .findBySeniorUuid(seniorUuid)
+                .forEach(subscription -> subscribed.add(subscription.toTargetDevice()));
+        return subscribed;
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> findSeniorUuidsByMemberUuid(String memberUuid) {
+        return careRelationRepository.findSeniorUuidsByMemberUuid(memberUuid);
+    }
+
+    /** 보호 관계가 있거나 구독이 남아 있는 모든 시니어 */
+    @Transactional(readOnly = true)
+    public Set<String> findAllSeniorUuids() {
+        Set<String> seniorUuids = new LinkedHashSet<>(careRelationRepository.findAllSeniorUuids());
+        seniorUuids.addAll(pushTopicSubscriptionRepository.findAllSeniorUuids());
+        return seniorUuids;
+    }
+}
@@ -0,0 +1,122 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.global.jpa.BinaryUuidType;
+
+import jakarta.persistence.EntityManager;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 시니어별 읽지 않은 알림 카운터를 관리합니다. 알림 등록/읽음/해제와 같은 트랜잭션 안에서 upsert 로 증감하므로, 알림 변경이
+ * 롤백되면 카운터도 함께 롤백됩니다.
+ *
+ * <p>카운터가 어긋나는 경우 (직접 수정한 데이터 등) 를 위해 하루에 한 번 care_alert 에서 다시 계산해 덮어씁니다. care_alert
+ * 를 오래 잠그지 않도록 시니어 {@code alert.counter.reconcile-batch-size} 명씩 나누어 트랜잭션을 따로 엽니다. 카운터가 하나도
+ * 없으면 (카운터 도입 직후) 기동 시에도 계산합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class SeniorAlertCounterService {
+    private static final String ADD_SQL =
+            """
+            insert into senior_alert_counter (senior_uuid, unread_count, updated_at)
+            values (:seniorUuid, greatest(:delta, 0), now(6))
+            on duplicate key update
+                unread_count = greatest(unread_count + :delta, 0),
+                updated_at = values(updated_at)
+            """;
+
+    private static final String NEXT_SENIORS_SQL =
+            "select uuid from senior where uuid > :after order by uuid limit :limit";
+
+    // 재계산 도중 커밋된 증감은 다음 재계산에서 맞춰진다
+    private static final String RECONCILE_SQL =
+            """
+            insert into senior_alert_counter (senior_uuid, unread_count, updated_at)
+            select s.uuid, count(a.uuid), now(6)
+            from senior s
+            left join care_alert a on a.senior_uuid = s.uuid
+                and a.is_read = false and a.is_dismissed = false
+            where s.uuid in (:seniorUuids)
+            group by s.uuid
+            on duplicate key update
+                unread_count = values(unread_count),
+                updated_at = values(updated_at)
+            """;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${alert.counter.reconcile-batch-size:500}")
+    private int batchSize;
+
+    /** 호출자의 트랜잭션 안에서 카운터에 delta 를 더합니다. 0 아래로는 내려가지 않습니다. */
+    @Transactional
+    public void add(String seniorUuid, int delta) {
+        entityManager
+                .createNativeQuery(ADD_SQL)
+                .setParameter("seniorUuid", BinaryUuidType.toBytes(seniorUuid))
+                .setParameter("delta", delta)
+                .executeUpdate();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        boolean empty =
+                entityManager
+                        .createNativeQuery("select 1 from senior_alert_counter limit 1")
+                        .getResultList()
+                        .isEmpty();
+        if (empty) {
+            reconcile();
+        }
+    }
+
+    /** 모든 시니어의 카운터를 care_alert 에서 다시 계산합니다. 시니어 uuid 순으로 배치마다 트랜잭션을 나눕니다. */
+    @Scheduled(cron = "${alert.counter.reconcile-cron:0 40 3 * * *}")
+    public void reconcile() {
+        byte[] after = new byte[16];
+        int seniors = 0;
+        try {
+            while (true) {
+                List<byte[]> batch = nextSeniors(after);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                transactionTemplate.executeWithoutResult(
+                        status ->
+                                entityManager
+                                        .createNativeQuery(RECONCILE_SQL)
+                                        .setParameter("seniorUuids", batch)
+                                        .executeUpdate());
+                seniors += batch.size();
+                after = batch.getLast();
+            }
+            log.debug("Reconciled unread alert counters of {} seniors", seniors);
+        } catch (Exception e) {
+            log.warn("Failed to reconcile unread alert counters: {}", e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<byte[]> nextSeniors(byte[] after) {
+        return entityManager
+                .createNativeQuery(NEXT_SENIORS_SQL)
+                .setParameter("after", after)
+                .setParameter("limit", batchSize)
+                .getResultList();
+    }
+}
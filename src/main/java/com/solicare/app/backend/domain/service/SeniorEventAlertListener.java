@@ -0,0 +1,46 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.application.dto.request.CareRequestDTO.PostCareAlert;
+import com.solicare.app.backend.application.enums.MonitorMode;
+import com.solicare.app.backend.domain.dto.BasicServiceResult;
+import com.solicare.app.backend.domain.dto.care.SeniorEventDetected;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/** 서버가 감지한 이벤트를 기기가 보낸 알림과 같은 경로 (CareService.addCareAlert) 로 등록하고 푸시합니다. */
+@Slf4j
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class SeniorEventAlertListener {
+    private final CareService careService;
+
+    // 측정값 저장이 롤백되면 알리지 않는다. 커밋 이후이므로 새 트랜잭션에서 등록한다
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onSeniorEventDetected(SeniorEventDetected event) {
+        BasicServiceResult<?> result =
+                careService.addCareAlert(
+                        event.seniorUuid(),
+                        new PostCareAlert(
+                                event.timestamp(),
+                                event.eventType(),
+                                MonitorMode.FULL_MONITORING,
+                                null,
+                                false,
+                                false));
+        if (!result.isSuccess()) {
+            log.warn(
+                    "Failed to raise {} alert for senior {}: {}",
+                    event.eventType(),
+                    event.seniorUuid(),
+                    result.getException() == null ? null : result.getException().getMessage());
+        }
+    }
+}
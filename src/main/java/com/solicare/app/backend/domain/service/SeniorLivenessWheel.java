@@ -0,0 +1,264 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.application.enums.SeniorEvent;
+import com.solicare.app.backend.domain.dto.care.SeniorEventDetected;
+import com.solicare.app.backend.domain.entity.SeniorSensorStat;
+import com.solicare.app.backend.domain.enums.MonitoredDevice;
+import com.solicare.app.backend.domain.repository.SeniorRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모니터링 중인 시니어의 비활동/기기 연결 끊김을 감지하는 hashed timing wheel.
+ *
+ * <p>센서 측정값이 들어오면 비활동 타이머를, 기기 heartbeat 가 들어오면 해당 기기의 연결 끊김 타이머를 다시 겁니다. 다시 걸 때는
+ * 타이머의 마감 시각만 바꾸고, 휠은 슬롯이 돌아왔을 때 마감이 미뤄진 타이머를 새 슬롯으로 옮기므로 측정값마다 할당이나 잠금이
+ * 없습니다. 틱마다 현재 슬롯만 확인하므로 시니어 수와 관계없이 DB 를 폴링하지 않습니다.
+ *
+ * <p>마감이 지나면 {@link SeniorEventDetected} 를 발행하여 알림으로 등록하고, 타이머는 다음 측정값이나 heartbeat 가 올 때까지
+ * 다시 걸지 않습니다. 기기 타이머는 그 기기의 heartbeat 를 한 번이라도 받은 뒤부터 겁니다. 상태는 인스턴스 메모리에만 있습니다.
+ */
+@Slf4j
+@Component
+public class SeniorLivenessWheel {
+    private static final List<SeniorEvent> WATCHED_EVENTS =
+            List.of(
+                    SeniorEvent.INACTIVITY_ALERT,
+                    SeniorEvent.CAMERA_DISCONNECTED,
+                    SeniorEvent.WEARABLE_DISCONNECTED);
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    // 새로 만든 타이머는 틱 스레드가 가져가 슬롯에 넣는다
+    private final Queue<Timer> arrivals = new ConcurrentLinkedQueue<>();
+    private final Set<String> monitored = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService ticker =
+            Executors.newSingleThreadScheduledExecutor(
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "senior-liveness-wheel");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+    private final ExecutorService alertExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final SeniorRepository seniorRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final long tickMillis;
+    private final int mask;
+    private final long inactivityTimeoutMillis;
+    private final long deviceTimeoutMillis;
+
+    // 아래 필드는 틱 스레드만 사용한다
+    private final ArrayDeque<Timer>[] wheel;
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public SeniorLivenessWheel(
+            SeniorRepository seniorRepository,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${liveness.enabled:true}") boolean enabled,
+            @Value("${liveness.tick-ms:1000}") long tickMillis,
+            @Value("${liveness.wheel-size:512}") int wheelSize,
+            @Value("${liveness.inactivity-timeout-minutes:30}") long inactivityTimeoutMinutes,
+            @Value("${liveness.device-timeout-seconds:120}") long deviceTimeoutSeconds) {
+        this.seniorRepository = seniorRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.tickMillis = tickMillis;
+        // 슬롯 수는 2 의 거듭제곱으로 맞춰 나머지 대신 mask 를 쓴다
+        int slots = Integer.highestOneBit(Math.max(wheelSize, 2) - 1) << 1;
+        this.mask = slots - 1;
+        this.inactivityTimeoutMillis = TimeUnit.MINUTES.toMillis(inactivityTimeoutMinutes);
+        this.deviceTimeoutMillis = TimeUnit.SECONDS.toMillis(deviceTimeoutSeconds);
+        this.wheel = new ArrayDeque[slots];
+        for (int i = 0; i < slots; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        Gauge.builder("senior.liveness.timers", timers, Map::size)
+                .description("Armed inactivity/disconnect timers")
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(String seniorUuid, SeniorEvent event) {}
+
+    private static final class Timer {
+        private final TimerKey key;
+        private volatile long deadline;
+        private volatile boolean cancelled;
+        private long scheduledTick;
+
+        private Timer(TimerKey key, long deadline) {
+            this.key = key;
+            this.deadline = deadline;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        List<String> seniorUuids = seniorRepository.findMonitoredUuids();
+        monitored.addAll(seniorUuids);
+        // 기동 직후부터 아무 측정값도 오지 않는 시니어도 감지하도록 비활동 타이머를 건다
+        seniorUuids.forEach(this::armInactivity);
+        currentTick = System.currentTimeMillis() / tickMillis;
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        log.info("Started liveness wheel for {} monitored seniors", seniorUuids.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+        alertExecutor.shutdown();
+    }
+
+    public void onStatsSaved(List<SeniorSensorStat> stats) {
+        String last = null;
+        for (SeniorSensorStat stat : stats) {
+            String seniorUuid = stat.getSenior().getUuid();
+            if (!seniorUuid.equals(last)) {
+                armInactivity(seniorUuid);
+                last = seniorUuid;
+            }
+        }
+    }
+
+    public void onHeartbeat(String seniorUuid, MonitoredDevice device) {
+        arm(seniorUuid, device.getDisconnectedEvent(), deviceTimeoutMillis);
+    }
+
+    /** 모니터링 설정이 커밋된 뒤에 반영합니다. 모니터링을 끄면 걸려 있던 타이머를 모두 해제합니다. */
+    public void onMonitoringChanged(String seniorUuid, boolean monitoring) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyMonitoring(seniorUuid, monitoring);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        applyMonitoring(seniorUuid, monitoring);
+                    }
+                });
+    }
+
+    private void applyMonitoring(String seniorUuid, boolean monitoring) {
+        if (monitoring) {
+            monitored.add(seniorUuid);
+            armInactivity(seniorUuid);
+            return;
+        }
+        monitored.remove(seniorUuid);
+        for (SeniorEvent event : WATCHED_EVENTS) {
+            Timer timer = timers.remove(new TimerKey(seniorUuid, event));
+            if (timer != null) {
+                // 휠에서는 슬롯이 돌아올 때 버린다
+                timer.cancelled = true;
+            }
+        }
+    }
+
+    private void armInactivity(String seniorUuid) {
+        arm(seniorUuid, SeniorEvent.INACTIVITY_ALERT, inactivityTimeoutMillis);
+    }
+
+    private void arm(String seniorUuid, SeniorEvent event, long timeoutMillis) {
+        if (!enabled || !monitored.contains(seniorUuid)) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        Timer timer = timers.get(new TimerKey(seniorUuid, event));
+        if (timer != null) {
+            // 이미 휠에 있으면 마감만 미룬다. 휠이 슬롯을 지날 때 새 슬롯으로 옮긴다
+            timer.deadline = deadline;
+            return;
+        }
+        timers.computeIfAbsent(
+                new TimerKey(seniorUuid, event),
+                key -> {
+                    Timer created = new Timer(key, deadline);
+                    arrivals.add(created);
+                    return created;
+                });
+    }
+
+    private void tick() {
+        try {
+            Timer arrived;
+            while ((arrived = arrivals.poll()) != null) {
+                schedule(arrived);
+            }
+            long targetTick = System.currentTimeMillis() / tickMillis;
+            while (currentTick <= targetTick) {
+                expire(wheel[(int) (currentTick & mask)]);
+                currentTick++;
+            }
+        } catch (Exception e) {
+            log.warn("Liveness wheel tick failed: {}", e.getMessage());
+        }
+    }
+
+    private void schedule(Timer timer) {
+        timer.scheduledTick = Math.max(timer.deadline / tickMillis, currentTick);
+        wheel[(int) (timer.scheduledTick & mask)].add(timer);
+    }
+
+    private void expire(ArrayDeque<Timer> slot) {
+        for (int remaining = slot.size(); remaining > 0; remaining--) {
+            Timer timer = slot.poll();
+            if (timer.cancelled) {
+                continue;
+            }
+            if (timer.scheduledTick > currentTick) {
+                // 다음 바퀴 이후의 타이머
+                slot.add(timer);
+            } else if (timer.deadline / tickMillis > currentTick) {
+                // 그 사이에 다시 걸린 타이머
+                schedule(timer);
+            } else if (timers.remove(timer.key, timer)) {
+                raise(timer.key);
+            }
+        }
+    }
+
+    private void raise(TimerKey key) {
+        if (!monitored.contains(key.seniorUuid())) {
+            return;
+        }
+        log.info("Liveness deadline passed: {} for senior {}", key.event(), key.seniorUuid());
+        // 알림 등록 (DB, 푸시) 이 틱을 늦추지 않도록 다른 스레드에서 처리한다
+        alertExecutor.execute(
+                () ->
+                        eventPublisher.publishEvent(
+                                new SeniorEventDetected(
+                                        key.seniorUuid(), key.event(), LocalDateTime.now())));
+    }
+}
@@ -0,0 +1,273 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.application.dto.res.CareResponseDTO;
+import com.solicare.app.backend.domain.entity.SeniorSensorStat;
+import com.solicare.app.backend.domain.repository.SeniorSensorStatRepository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 시니어별 최근 센서 측정값 링 버퍼. 대시보드가 열릴 때마다 최근 20건을 조회하던 쿼리를 대신합니다.
+ *
+ * <p>처음 조회할 때 DB 에서 채우고, 이후에는 저장이 커밋된 측정값을 바로 반영합니다. 채우는 동안 커밋된 측정값은 DB 조회
+ * 결과와 합칩니다. 캐시에 없는 시니어의 측정값은 반영하지 않고 다음 조회 때 DB 에서 채웁니다. 측정값은 객체 대신 기본형 배열에
+ * 담습니다.
+ */
+@Component
+public class SeniorRecentStatCache {
+    private static final DateTimeFormatter ISO_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final SeniorSensorStatRepository seniorSensorStatRepository;
+    private final int capacity;
+    private final Map<String, RecentStats> seniors;
+
+    public SeniorRecentStatCache(
+            SeniorSensorStatRepository seniorSensorStatRepository,
+            @Value("${sensor.recent.max-seniors:10000}") int maxSeniors) {
+        this.seniorSensorStatRepository = seniorSensorStatRepository;
+        // findTop20BySenior_UuidOrderByTimestampDesc 로 채우므로 크기를 맞춘다
+        this.capacity = 20;
+        this.seniors =
+                Collections.synchronizedMap(
+                        new LinkedHashMap<String, RecentStats>(16, 0.75f, true) {
+                            @Override
+                            protected boolean removeEldestEntry(
+                                    Map.Entry<String, RecentStats> eldest) {
+                                return size() > maxSeniors;
+                            }
+                        });
+    }
+
+    /** 최신순 최근 측정값. 캐시에 없으면 DB 에서 한 번 읽어 채웁니다. */
+    public List<CareResponseDTO.StatBrief> getRecentStatBriefs(String seniorUuid) {
+        return getRecentStats(seniorUuid).toStatBriefs();
+    }
+
+    public Optional<CareResponseDTO.StatDetail> getLatestStatDetail(String seniorUuid) {
+        return Optional.ofNullable(getRecentStats(seniorUuid).toLatestStatDetail());
+    }
+
+    /** 저장 트랜잭션이 커밋된 뒤에 측정값을 반영합니다. 트랜잭션 밖이면 바로 반영합니다. */
+    public void onStatsSaved(List<SeniorSensorStat> stats) {
+        if (stats.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addAll(stats);
+            return;
+        }
+        List<SeniorSensorStat> saved = List.copyOf(stats);
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        addAll(saved);
+                    }
+                });
+    }
+
+    private RecentStats getRecentStats(String seniorUuid) {
+        RecentStats recent = seniors.get(seniorUuid);
+        if (recent == null) {
+            // 빈 버퍼를 먼저 넣어 두어 DB 조회 중에 커밋된 측정값도 받고, 조회 결과를 그 위에 합친다
+            RecentStats placeholder = new RecentStats(capacity);
+            recent = seniors.putIfAbsent(seniorUuid, placeholder);
+            if (recent == null) {
+                load(seniorUuid, placeholder);
+                return placeholder;
+            }
+        }
+        // 다른 스레드가 채우는 중이면 끝날 때까지 기다린다
+        recent.loaded.join();
+        return recent;
+    }
+
+    private void load(String seniorUuid, RecentStats placeholder) {
+        try {
+            // DB 조회는 캐시 잠금 밖에서 한다
+            seniorSensorStatRepository
+                    .findTop20BySenior_UuidOrderByTimestampDesc(seniorUuid)
+                    .forEach(placeholder::add);
+            placeholder.loaded.complete(null);
+        } catch (RuntimeException e) {
+            seniors.remove(seniorUuid, placeholder);
+            placeholder.loaded.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void addAll(List<SeniorSensorStat> stats) {
+        String seniorUuid = null;
+        RecentStats recent = null;
+        for (SeniorSensorStat stat : stats) {
+            String statSeniorUuid = stat.getSenior().getUuid();
+            if (!statSeniorUuid.equals(seniorUuid)) {
+                seniorUuid = statSeniorUuid;
+                recent = seniors.get(seniorUuid);
+            }
+            if (recent != null) {
+                recent.add(stat);
+            }
+        }
+    }
+
+    /**
+     * 시각 순으로 정렬된 고정 크기 링 버퍼. 논리 인덱스 0 이 가장 오래된 측정값이며, 늦게 도착한 측정값은 제자리에 끼워 넣고 가득
+     * 차면 가장 오래된 측정값을 버립니다.
+     */
+    static final class RecentStats {
+        private static final int CAMERA_FALL = 1;
+        private static final int WEARABLE_FALL = 1 << 1;
+
+        // DB 에서 채우기를 마치면 완료된다
+        final CompletableFuture<Void> loaded = new CompletableFuture<>();
+        private final int capacity;
+        private final long[] timestamps;
+        private final long[] uuidMostBits;
+        private final long[] uuidLeastBits;
+        private final double[] temperatures;
+        private final double[] humidities;
+        private final double[] wearableBatteries;
+        private final int[] heartRates;
+        // 슬롯마다 2비트 (카메라, 웨어러블 낙상)
+        private final long[] fallFlags;
+        private int head;
+        private int size;
+
+        RecentStats(int capacity) {
+            this.capacity = capacity;
+            this.timestamps = new long[capacity];
+            this.uuidMostBits = new long[capacity];
+            this.uuidLeastBits = new long[capacity];
+            this.temperatures = new double[capacity];
+            this.humidities = new double[capacity];
+            this.wearableBatteries = new double[capacity];
+            this.heartRates = new int[capacity];
+            this.fallFlags = new long[(capacity * 2 + Long.SIZE - 1) / Long.SIZE];
+        }
+
+        synchronized void add(SeniorSensorStat stat) {
+            long timestamp = toEpochNanos(stat.getTimestamp());
+            UUID uuid = UUID.fromString(stat.getUuid());
+            if (size == capacity && timestamp <= timestamps[slot(0)]) {
+                return;
+            }
+            for (int i = 0; i < size; i++) {
+                int slot = slot(i);
+                if (uuidMostBits[slot] == uuid.getMostSignificantBits()
+                        && uuidLeastBits[slot] == uuid.getLeastSignificantBits()) {
+                    return;
+                }
+            }
+            if (size == capacity) {
+                head = slot(1);
+                size--;
+            }
+            // 새 측정값보다 늦은 측정값을 한 칸씩 뒤로 민다
+            int index = size;
+            while (index > 0 && timestamps[slot(index - 1)] > timestamp) {
+                copy(slot(index - 1), slot(index));
+                index--;
+            }
+            int slot = slot(index);
+            timestamps[slot] = timestamp;
+            uuidMostBits[slot] = uuid.getMostSignificantBits();
+            uuidLeastBits[slot] = uuid.getLeastSignificantBits();
+            temperatures[slot] = stat.getTemperature();
+            humidities[slot] = stat.getHumidity();
+            wearableBatteries[slot] = stat.getWearableBattery();
+            heartRates[slot] = stat.getHeartRate();
+            setFlags(
+                    slot,
+                    (Boolean.TRUE.equals(stat.getCameraFallDetected()) ? CAMERA_FALL : 0)
+                            | (Boolean.TRUE.equals(stat.getWearableFallDetected())
+                                    ? WEARABLE_FALL
+                                    : 0));
+            size++;
+        }
+
+        synchronized List<CareResponseDTO.StatBrief> toStatBriefs() {
+            List<CareResponseDTO.StatBrief> briefs = new ArrayList<>(size);
+            for (int i = size - 1; i >= 0; i--) {
+                int slot = slot(i);
+                briefs.add(
+                        new CareResponseDTO.StatBrief(
+                                new UUID(uuidMostBits[slot], uuidLeastBits[slot]).toString(),
+                                toLocalDateTime(timestamps[slot]).format(ISO_FORMAT),
+                                heartRates[slot],
+                                temperatures[slot]));
+            }
+            return briefs;
+        }
+
+        synchronized CareResponseDTO.StatDetail toLatestStatDetail() {
+            if (size == 0) {
+                return null;
+            }
+            int slot = slot(size - 1);
+            int flags = getFlags(slot);
+            return new CareResponseDTO.StatDetail(
+                    new UUID(uuidMostBits[slot], uuidLeastBits[slot]).toString(),
+                    toLocalDateTime(timestamps[slot]).format(ISO_FORMAT),
+                    (flags & CAMERA_FALL) != 0,
+                    (flags & WEARABLE_FALL) != 0,
+                    temperatures[slot],
+                    humidities[slot],
+                    heartRates[slot],
+                    wearableBatteries[slot]);
+        }
+
+        private int slot(int index) {
+            return (head + index) % capacity;
+        }
+
+        private void copy(int from, int to) {
+            timestamps[to] = timestamps[from];
+            uuidMostBits[to] = uuidMostBits[from];
+            uuidLeastBits[to] = uuidLeastBits[from];
+            temperatures[to] = temperatures[from];
+            humidities[to] = humidities[from];
+            wearableBatteries[to] = wearableBatteries[from];
+            heartRates[to] = heartRates[from];
+            setFlags(to, getFlags(from));
+        }
+
+        private int getFlags(int slot) {
+            int bit = slot * 2;
+            return (int) (fallFlags[bit / Long.SIZE] >>> (bit % Long.SIZE)) & 0b11;
+        }
+
+        private void setFlags(int slot, int flags) {
+            int bit = slot * 2;
+            long mask = 0b11L << (bit % Long.SIZE);
+            fallFlags[bit / Long.SIZE] =
+                    (fallFlags[bit / Long.SIZE] & ~mask) | ((long) flags << (bit % Long.SIZE));
+        }
+
+        private static long toEpochNanos(LocalDateTime timestamp) {
+            return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + timestamp.getNano();
+        }
+
+        private static LocalDateTime toLocalDateTime(long epochNanos) {
+            return LocalDateTime.ofEpochSecond(
+                    Math.floorDiv(epochNanos, 1_000_000_000L),
+                    (int) Math.floorMod(epochNanos, 1_000_000_000L),
+                    ZoneOffset.UTC);
+        }
+    }
+}
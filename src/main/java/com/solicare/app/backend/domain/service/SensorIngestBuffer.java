@@ -0,0 +1,339 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.application.dto.request.CareRequestDTO.PostSensorStat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 센서 측정값 write-behind 버퍼. 요청 스레드는 시니어별 lock-free 큐에 넣고 바로 응답하며, 버퍼가 {@code
+ * sensor.ingest.flush-size} 만큼 차거나 {@code sensor.ingest.flush-interval-ms} 가 지나면 한 트랜잭션의 batch
+ * insert 로 저장합니다.
+ *
+ * <p>버퍼에 담을 수 있는 건수는 {@code sensor.ingest.max-buffered} 로 제한되며, 가득 차면 요청을 거절하여 클라이언트가
+ * Retry-After 이후 다시 보내도록 합니다. 저장에 실패한 측정값은 버퍼로 되돌려 다음 flush 에서 다시 시도합니다. 같은 이유로
+ * {@code sensor.ingest.max-attempts} 번 연속 실패하면 batch 를 절반씩 나누어 저장하고, 한 건만으로도 실패하는 측정값은
+ * dead letter 로그에 남기고 버립니다. DB 연결 실패 같은 일시적 장애에서는 나누지 않고 계속 다시 시도합니다.
+ *
+ * <p>측정값은 버퍼에 담기 전에 {@link SensorIngestJournal} 에 먼저 기록되고, 기동 시 저널에 남은 측정값을 다시 버퍼에 담아
+ * 저장합니다.
+ */
+@Slf4j
+@Component
+public class SensorIngestBuffer {
+    // 시니어별 큐는 비어도 지우지 않는다 (지우는 사이에 들어온 측정값이 유실되지 않도록)
+    private final Map<String, Queue<BufferedReading>> buffers = new ConcurrentHashMap<>();
+    // 버퍼에 있거나 저장 중인 측정값 수 (저장이 끝나야 줄어든다)
+    private final AtomicInteger depth = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ExecutorService flushExecutor =
+            Executors.newSingleThreadExecutor(
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "sensor-ingest-flush");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+
+    private final SensorStatWriter sensorStatWriter;
+    private final SensorIngestJournal journal;
+    private final int maxBuffered;
+    private final int flushSize;
+    private final int maxAttempts;
+    private final Duration retryAfter;
+    private final Duration drainTimeout;
+    // flushLock 을 잡은 스레드만 읽고 쓴다
+    private int failedAttempts = 0;
+
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter deadLetteredCounter;
+    private final Timer flushTimer;
+
+    public SensorIngestBuffer(
+            SensorStatWriter sensorStatWriter,
+            SensorIngestJournal journal,
+            MeterRegistry meterRegistry,
+            @Value("${sensor.ingest.max-buffered:50000}") int maxBuffered,
+            @Value("${sensor.ingest.flush-size:2000}") int flushSize,
+            @Value("${sensor.ingest.max-attempts:3}") int maxAttempts,
+            @Value("${sensor.ingest.retry-after-seconds:2}") long retryAfterSeconds,
+            @Value("${sensor.ingest.drain-timeout-seconds:30}") long drainTimeoutSeconds) {
+        this.sensorStatWriter = sensorStatWriter;
+        this.journal = journal;
+        this.maxBuffered = maxBuffered;
+        this.flushSize = flushSize;
+        this.maxAttempts = maxAttempts;
+        this.retryAfter = Duration.ofSeconds(retryAfterSeconds);
+        this.drainTimeout = Duration.ofSeconds(drainTimeoutSeconds);
+
+        Gauge.builder("sensor.ingest.buffered", depth, AtomicInteger::get)
+                .description("Buffered or in-flight sensor readings")
+                .register(meterRegistry);
+        this.acceptedCounter =
+                meterRegistry.counter("sensor.ingest.readings", "result", "accepted");
+        this.rejectedCounter =
+                meterRegistry.counter("sensor.ingest.readings", "result", "rejected");
+        this.deadLetteredCounter =
+                meterRegistry.counter("sensor.ingest.readings", "result", "dead_lettered");
+        this.flushTimer =
+                Timer.builder("sensor.ingest.flush")
+                        .publishPercentiles(0.5, 0.99)
+                        .register(meterRegistry);
+    }
+
+    private record BufferedReading(
+            String seniorUuid, PostSensorStat reading, SensorIngestJournal.Position position) {}
+
+    /** 버퍼에 여유가 있으면 모두 담고 true, 없으면 하나도 담지 않고 false 를 반환합니다. */
+    public boolean offer(String seniorUuid, List<PostSensorStat> readings) {
+        int size = readings.size();
+        int buffered = depth.addAndGet(size);
+        if (buffered > maxBuffered) {
+            depth.addAndGet(-size);
+            rejectedCounter.increment(size);
+            return false;
+        }
+        SensorIngestJournal.Position position;
+        try {
+            position = journal.append(seniorUuid, readings);
+        } catch (RuntimeException e) {
+            depth.addAndGet(-size);
+            throw e;
+        }
+        Queue<BufferedReading> queue =
+                buffers.computeIfAbsent(seniorUuid, k -> new ConcurrentLinkedQueue<>());
+        for (int i = 0; i < size; i++) {
+            queue.add(new BufferedReading(seniorUuid, readings.get(i), position.at(i)));
+        }
+        acceptedCounter.increment(size);
+        if (buffered >= flushSize && buffered - size < flushSize) {
+            // 크기 기준 flush 는 요청 스레드를 막지 않도록 별도 스레드에서 수행한다
+            flushExecutor.execute(this::flush);
+        }
+        return true;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public int getDepth() {
+        return depth.get();
+    }
+
+    /** 지난 기동에서 저장하지 못하고 저널에 남은 측정값을 버퍼 한도와 관계없이 다시 담아 저장합니다. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayJournal() {
+        List<SensorIngestJournal.Entry> entries = journal.recover();
+        if (entries.isEmpty()) {
+            return;
+        }
+        log.info("Replaying {} sensor readings from the ingest journal", entries.size());
+        entries.forEach(
+                entry ->
+                        buffers.computeIfAbsent(
+                                        entry.seniorUuid(), k -> new ConcurrentLinkedQueue<>())
+                                .add(
+                                        new BufferedReading(
+                                                entry.seniorUuid(),
+                                                entry.reading(),
+                                                entry.position())));
+        depth.addAndGet(entries.size());
+        flushExecutor.execute(this::flush);
+    }
+
+    @Scheduled(fixedDelayString = "${sensor.ingest.flush-interval-ms:1000}")
+    public void flush() {
+        // 동시에 하나의 flush 만 진행한다. 진행 중인 flush 가 남은 측정값도 이어서 가져간다
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /** 진행 중인 flush 를 기다린 뒤, 버퍼가 빌 때까지 또는 drain-timeout 이 지날 때까지 flush 를 반복합니다. */
+    @PreDestroy
+    public void drainOnShutdown() throws InterruptedException {
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+        while (depth.get() > 0 && remainingNanos(deadline) > 0) {
+            if (!flushLock.tryLock(remainingNanos(deadline), TimeUnit.NANOSECONDS)) {
+                break;
+            }
+            boolean flushed;
+            try {
+                flushed = flushLocked();
+            } finally {
+                flushLock.unlock();
+            }
+            if (!flushed) {
+                // 일시적 장애로 실패했으면 잠시 쉬었다가 다시 시도한다
+                TimeUnit.NANOSECONDS.sleep(
+                        Math.min(remainingNanos(deadline), retryAfter.toNanos()));
+            }
+        }
+        if (depth.get() > 0) {
+            log.warn("{} buffered sensor readings were not saved before shutdown", depth.get());
+        }
+    }
+
+    private static long remainingNanos(long deadline) {
+        return Math.max(deadline - System.nanoTime(), 0);
+    }
+
+    /** 버퍼가 빌 때까지 저장하고, 저장에 실패해 측정값을 되돌렸으면 false 를 반환합니다. */
+    private boolean flushLocked() {
+        List<BufferedReading> batch = nextBatch();
+        while (!batch.isEmpty()) {
+            if (!write(batch)) {
+                return false;
+            }
+            batch = nextBatch();
+        }
+        return true;
+    }
+
+    private boolean write(List<BufferedReading> batch) {
+        long started = System.nanoTime();
+        try {
+            insert(batch);
+            failedAttempts = 0;
+            return true;
+        } catch (Exception e) {
+            if (isTransient(e) || ++failedAttempts < maxAttempts) {
+                log.warn("Failed to flush {} sensor readings: {}", batch.size(), e.getMessage());
+                // 다음 flush 에서 다시 시도한다 (depth 는 그대로 유지)
+                requeue(batch);
+                return false;
+            }
+            log.warn(
+                    "Failed to flush {} sensor readings {} times, retrying in halves: {}",
+                    batch.size(),
+                    failedAttempts,
+                    e.getMessage());
+            failedAttempts = 0;
+            return bisect(batch, e);
+        } finally {
+            flushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** 측정값을 절반씩 나누어 저장합니다. 일시적 장애를 만나면 남은 측정값을 되돌리고 false 를 반환합니다. */
+    private boolean bisect(List<BufferedReading> readings, Exception failure) {
+        if (readings.size() == 1) {
+            deadLetter(readings.get(0), failure);
+            return true;
+        }
+        int half = readings.size() / 2;
+        List<BufferedReading> second = readings.subList(half, readings.size());
+        if (!retry(readings.subList(0, half))) {
+            requeue(second);
+            return false;
+        }
+        return retry(second);
+    }
+
+    private boolean retry(List<BufferedReading> readings) {
+        try {
+            insert(readings);
+            return true;
+        } catch (Exception e) {
+            if (isTransient(e)) {
+                requeue(readings);
+                return false;
+            }
+            return bisect(readings, e);
+        }
+    }
+
+    private void insert(List<BufferedReading> readings) {
+        Map<String, List<PostSensorStat>> bySenior = new LinkedHashMap<>();
+        List<SensorIngestJournal.Position> positions = new ArrayList<>(readings.size());
+        for (BufferedReading buffered : readings) {
+            bySenior.computeIfAbsent(buffered.seniorUuid(), k -> new ArrayList<>())
+                    .add(buffered.reading());
+            positions.add(buffered.position());
+        }
+        int saved = sensorStatWriter.insertAll(bySenior);
+        if (saved < readings.size()) {
+            log.warn(
+                    "Dropped {} buffered sensor readings of unknown seniors",
+                    readings.size() - saved);
+        }
+        depth.addAndGet(-readings.size());
+        // 커밋된 뒤에만 저널에 저장되었다고 표시한다
+        journal.release(positions);
+    }
+
+    private void deadLetter(BufferedReading buffered, Exception failure) {
+        log.error(
+                "Dead-lettered sensor reading of senior {}: {} ({})",
+                buffered.seniorUuid(),
+                buffered.reading(),
+                failure.getMessage());
+        deadLetteredCounter.increment();
+        depth.decrementAndGet();
+        journal.release(List.of(buffered.position()));
+    }
+
+    private void requeue(List<BufferedReading> readings) {
+        readings.forEach(
+                buffered ->
+                        buffers.computeIfAbsent(
+                                        buffered.seniorUuid(), k -> new ConcurrentLinkedQueue<>())
+                                .add(buffered));
+    }
+
+    /** DB 연결이나 잠금 대기 같은 일시적 장애는 특정 측정값 탓이 아니므로 나누어 저장하지 않는다 */
+    private static boolean isTransient(Exception e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private List<BufferedReading> nextBatch() {
+        List<BufferedReading> batch = new ArrayList<>();
+        for (Queue<BufferedReading> queue : buffers.values()) {
+            BufferedReading reading;
+            while (batch.size() < flushSize && (reading = queue.poll()) != null) {
+                batch.add(reading);
+            }
+            if (batch.size() >= flushSize) {
+                break;
+            }
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,398 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.application.dto.request.CareRequestDTO.PostSensorStat;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * write-behind 버퍼에 담긴 센서 측정값의 append-only 저널. 측정값은 버퍼에 담기기 전에 memory-mapped 세그먼트 파일에 고정
+ * 길이 레코드로 기록되므로, JVM 이 비정상 종료되어도 OS 페이지 캐시에 남아 다음 기동 시 다시 저장됩니다.
+ *
+ * <p>DB 에 저장이 커밋된 레코드는 marker 를 바꿔 표시하므로, 다시 기동할 때 아직 저장되지 않은 레코드만 읽습니다. 커밋 직후
+ * 표시하기 전에 종료되면 그 flush 의 측정값만 다시 저장될 수 있습니다. 세그먼트마다 아직 저장되지 않은 레코드 수를 세고, 0 이
+ * 되면 지난 세그먼트는 삭제하고 현재 세그먼트는 비워서 다시 씁니다. OS 장애까지 대비하려면 {@code
+ * sensor.ingest.journal.fsync=true} 로 기록할 때마다 디스크에 동기화합니다.
+ *
+ * <p>레코드 레이아웃 (62 bytes, big-endian): marker(1) flags(1) seniorUuid(16) epochSecond(8) nano(4)
+ * temperature(8) humidity(8) wearableBattery(8) heartRate(4) crc32(4)
+ */
+@Slf4j
+@Component
+public class SensorIngestJournal {
+    public static final Position NO_POSITION = new Position(-1L, 0);
+    static final int RECORD_BYTES = 62;
+    private static final byte RECORD_MARKER = 0x5A;
+    // 저장이 커밋된 레코드. 0 (기록되지 않은 영역) 과 구분해야 그 뒤의 레코드를 계속 읽을 수 있다
+    private static final byte RELEASED_MARKER = 0x2D;
+    private static final int FLAG_CAMERA_FALL = 1;
+    private static final int FLAG_WEARABLE_FALL = 1 << 1;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final byte[] ZEROS = new byte[4096];
+
+    // 세그먼트별로 아직 저장되지 않은 레코드 수
+    private final Map<Long, AtomicInteger> pending = new ConcurrentHashMap<>();
+    // 기동 전에 남아 있던 세그먼트와 가득 차서 넘어간 세그먼트. 저장된 레코드를 표시하도록 매핑을 유지한다
+    private final Map<Long, Segment> sealed = new ConcurrentHashMap<>();
+    // 기동 전에 남아 있던 세그먼트 파일 (recover 에서 읽는다)
+    private final Map<Long, Path> leftover = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentBytes;
+    private final boolean fsync;
+
+    private long nextSegmentId;
+    private Segment active;
+
+    public SensorIngestJournal(
+            @Value("${sensor.ingest.journal.enabled:true}") boolean enabled,
+            @Value("${sensor.ingest.journal.dir:./data/sensor-journal}") String directory,
+            @Value("${sensor.ingest.journal.segment-bytes:8388608}") int segmentBytes,
+            @Value("${sensor.ingest.journal.fsync:false}") boolean fsync) {
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        // 한 번의 append (최대 1000건) 는 항상 한 세그먼트에 들어가야 한다
+        this.segmentBytes = Math.max(segmentBytes, RECORD_BYTES * 1000);
+        this.fsync = fsync;
+    }
+
+    /** 저널 레코드의 위치. append 는 첫 레코드의 위치를 반환하며, i 번째 레코드의 위치는 {@link #at} 으로 구합니다. */
+    public record Position(long segmentId, int offset) {
+        public Position at(int index) {
+            return segmentId < 0 ? this : new Position(segmentId, offset + index * RECORD_BYTES);
+        }
+    }
+
+    public record Entry(Position position, String seniorUuid, PostSensorStat reading) {}
+
+    private record Segment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {}
+
+    @PostConstruct
+    void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(
+                    path -> {
+                        long id = segmentId(path);
+                        if (id >= 0) {
+                            leftover.put(id, path);
+                            nextSegmentId = Math.max(nextSegmentId, id + 1);
+                        }
+                    });
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 측정값을 모두 한 세그먼트에 이어서 기록하고 첫 레코드의 위치를 반환합니다. 저널이 꺼져 있으면 NO_POSITION 입니다. */
+    public Position append(String seniorUuid, List<PostSensorStat> readings) {
+        if (!enabled) {
+            return NO_POSITION;
+        }
+        UUID senior = UUID.fromString(seniorUuid);
+        int length = RECORD_BYTES * readings.size();
+        byte[] records = new byte[length];
+        ByteBuffer out = ByteBuffer.wrap(records);
+        readings.forEach(reading -> encode(out, senior, reading));
+
+        lock.lock();
+        try {
+            if (active == null || active.buffer().remaining() < length) {
+                roll();
+            }
+            MappedByteBuffer buffer = active.buffer();
+            int offset = buffer.position();
+            buffer.put(records);
+            if (fsync) {
+                buffer.force(offset, length);
+            }
+            pending.computeIfAbsent(active.id(), id -> new AtomicInteger())
+                    .addAndGet(readings.size());
+            return new Position(active.id(), offset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append sensor readings to the journal", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * DB 에 저장이 커밋된 레코드를 표시하고 세그먼트의 대기 건수를 줄입니다. 모두 저장된 세그먼트는 지난 세그먼트면 삭제하고 현재
+     * 세그먼트면 비웁니다.
+     */
+    public void release(List<Position> positions) {
+        if (!enabled || positions.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> counts = new HashMap<>();
+        // 세그먼트별로 표시한 구간 [처음, 끝) 을 모아 fsync 를 세그먼트당 한 번만 한다
+        Map<Long, int[]> dirty = new HashMap<>();
+        lock.lock();
+        try {
+            for (Position position : positions) {
+                Segment segment = segmentOf(position.segmentId());
+                if (segment == null) {
+                    continue;
+                }
+                segment.buffer().put(position.offset(), RELEASED_MARKER);
+                counts.merge(position.segmentId(), 1, Integer::sum);
+                int[] range =
+                        dirty.computeIfAbsent(
+                                position.segmentId(),
+                                k -> new int[] {position.offset(), position.offset() + 1});
+                range[0] = Math.min(range[0], position.offset());
+                range[1] = Math.max(range[1], position.offset() + 1);
+            }
+            if (fsync) {
+                dirty.forEach(
+                        (segmentId, range) ->
+                                segmentOf(segmentId)
+                                        .buffer()
+                                        .force(range[0], range[1] - range[0]));
+            }
+            counts.forEach(
+                    (segmentId, count) -> {
+                        AtomicInteger remaining = pending.get(segmentId);
+                        if (remaining == null || remaining.addAndGet(-count) > 0) {
+                            return;
+                        }
+                        if (active != null && active.id() == segmentId) {
+                            truncate(active);
+                        } else {
+                            deleteSealed(segmentId);
+                        }
+                    });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 지난 기동에서 저장하지 못한 레코드를 읽어 옵니다. 반환된 레코드도 저장 후 release 해야 세그먼트가 지워집니다. */
+    public List<Entry> recover() {
+        List<Entry> entries = new ArrayList<>();
+        if (!enabled) {
+            return entries;
+        }
+        for (long id : leftover.keySet().stream().sorted().toList()) {
+            Path path = leftover.remove(id);
+            int count = 0;
+            Segment segment;
+            try {
+                segment = map(id, path);
+                MappedByteBuffer buffer = segment.buffer();
+                byte[] record = new byte[RECORD_BYTES];
+                while (buffer.remaining() >= RECORD_BYTES) {
+                    int offset = buffer.position();
+                    buffer.get(record);
+                    if (record[0] == RELEASED_MARKER) {
+                        // 이미 저장된 레코드
+                        continue;
+                    }
+                    Entry entry = decode(new Position(id, offset), record);
+                    if (entry == null) {
+                        // 기록되지 않았거나 기록 도중 끊긴 레코드 이후로는 읽지 않는다
+                        break;
+                    }
+                    entries.add(entry);
+                    count++;
+                }
+            } catch (IOException e) {
+                log.error("Failed to read sensor journal segment {}: {}", path, e.getMessage());
+                continue;
+            }
+            sealed.put(id, segment);
+            if (count > 0) {
+                pending.computeIfAbsent(id, key -> new AtomicInteger()).addAndGet(count);
+            } else {
+                deleteSealed(id);
+            }
+        }
+        return entries;
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        lock.lock();
+        try {
+            if (active != null) {
+                active.buffer().force();
+                active.channel().close();
+                active = null;
+            }
+            for (Segment segment : sealed.values()) {
+                segment.buffer().force();
+                segment.channel().close();
+            }
+            sealed.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void roll() throws IOException {
+        if (active != null) {
+            active.buffer().force();
+            AtomicInteger remaining = pending.get(active.id());
+            if (remaining == null || remaining.get() <= 0) {
+                pending.remove(active.id());
+                active.channel().close();
+                Files.deleteIfExists(active.path());
+            } else {
+                sealed.put(active.id(), active);
+            }
+        }
+        long id = nextSegmentId++;
+        Path path = directory.resolve(SEGMENT_PREFIX + "%016d".formatted(id) + SEGMENT_SUFFIX);
+        FileChannel channel =
+                FileChannel.open(
+                        path,
+                        StandardOpenOption.CREATE_NEW,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        active = new Segment(id, path, channel, buffer);
+    }
+
+    private static Segment map(long id, Path path) throws IOException {
+        FileChannel channel =
+                FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer =
+                    channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            return new Segment(id, path, channel, buffer);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private Segment segmentOf(long segmentId) {
+        return active != null && active.id() == segmentId ? active : sealed.get(segmentId);
+    }
+
+    private void deleteSealed(long segmentId) {
+        pending.remove(segmentId);
+        Segment segment = sealed.remove(segmentId);
+        if (segment == null) {
+            return;
+        }
+        try {
+            segment.channel().close();
+            Files.deleteIfExists(segment.path());
+        } catch (IOException e) {
+            log.warn(
+                    "Failed to delete sensor journal segment {}: {}",
+                    segment.path(),
+                    e.getMessage());
+        }
+    }
+
+    private void truncate(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer();
+        // 이전 레코드가 다시 읽히지 않도록 쓴 영역을 0 으로 지우고 처음부터 다시 쓴다
+        for (int offset = 0; offset < buffer.position(); offset += ZEROS.length) {
+            buffer.put(offset, ZEROS, 0, Math.min(ZEROS.length, buffer.position() - offset));
+        }
+        if (fsync) {
+            buffer.force(0, buffer.position());
+        }
+        buffer.position(0);
+    }
+
+    private static void encode(ByteBuffer out, UUID senior, PostSensorStat reading) {
+        int start = out.position();
+        int flags =
+                (reading.cameraFallDetected() ? FLAG_CAMERA_FALL : 0)
+                        | (reading.wearableFallDetected() ? FLAG_WEARABLE_FALL : 0);
+        out.put(RECORD_MARKER)
+                .put((byte) flags)
+                .putLong(senior.getMostSignificantBits())
+                .putLong(senior.getLeastSignificantBits())
+                .putLong(reading.timestamp().toEpochSecond(ZoneOffset.UTC))
+                .putInt(reading.timestamp().getNano())
+                .putDouble(reading.temperature())
+                .putDouble(reading.humidity())
+                .putDouble(reading.wearableBattery())
+                .putInt(reading.heartRate());
+        CRC32 crc = new CRC32();
+        crc.update(out.array(), start, RECORD_BYTES - Integer.BYTES);
+        out.putInt((int) crc.getValue());
+    }
+
+    private static Entry decode(Position position, byte[] record) {
+        ByteBuffer in = ByteBuffer.wrap(record);
+        CRC32 crc = new CRC32();
+        crc.update(record, 0, RECORD_BYTES - Integer.BYTES);
+        if (in.get() != RECORD_MARKER
+                || in.getInt(RECORD_BYTES - Integer.BYTES) != (int) crc.getValue()) {
+            return null;
+        }
+        int flags = in.get();
+        UUID senior = new UUID(in.getLong(), in.getLong());
+        LocalDateTime timestamp =
+                LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+        double temperature = in.getDouble();
+        double humidity = in.getDouble();
+        double wearableBattery = in.getDouble();
+        int heartRate = in.getInt();
+        PostSensorStat reading =
+                new PostSensorStat(
+                        timestamp,
+                        (flags & FLAG_CAMERA_FALL) != 0,
+                        (flags & FLAG_WEARABLE_FALL) != 0,
+                        temperature,
+                        humidity,
+                        heartRate,
+                        wearableBattery);
+        return new Entry(position, senior.toString(), reading);
+    }
+
+    private static long segmentId(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+            return -1;
+        }
+        try {
+            String id =
+                    name.substring(
+                            SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length());
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.domain.entity.SeniorSensorStat;
+import com.solicare.app.backend.domain.enums.RollupResolution;
+import com.solicare.app.backend.global.jpa.BinaryUuidType;
+import com.solicare.app.backend.global.jpa.UuidV7Generator;
+
+import jakarta.persistence.EntityManager;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 센서 통계 롤업 (분/시/일) 을 관리합니다. 측정값이 저장되는 트랜잭션 안에서 버킷별로 모아 upsert 하여 증분으로 갱신하고, 백필은
+ * 원본 측정값에서 하루 단위로 다시 집계해 덮어씁니다.
+ *
+ * <p>백필은 이미 지난 날짜에만 수행하여 진행 중인 증분 갱신과 겹치지 않게 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class SensorRollupService {
+    private static final String UPSERT_SQL =
+            """
+            insert into senior_sensor_rollup (uuid, senior_uuid, resolution, bucket_start,
+                sample_count, heart_rate_min, heart_rate_max, heart_rate_sum,
+                temperature_min, temperature_max, temperature_sum,
+                humidity_min, humidity_max, humidity_sum,
+                wearable_battery_min, wearable_battery_max, wearable_battery_sum,
+                camera_fall_count, wearable_fall_count, updated_at)
+            values (:uuid, :seniorUuid, :resolution, :bucketStart,
+                :sampleCount, :heartRateMin, :heartRateMax, :heartRateSum,
+                :temperatureMin, :temperatureMax, :temperatureSum,
+                :humidityMin, :humidityMax, :humiditySum,
+                :wearableBatteryMin, :wearableBatteryMax, :wearableBatterySum,
+                :cameraFallCount, :wearableFallCount, now(6))
+            on duplicate key update
+                sample_count = sample_count + values(sample_count),
+                heart_rate_min = least(heart_rate_min, values(heart_rate_min)),
+                heart_rate_max = greatest(heart_rate_max, values(heart_rate_max)),
+                heart_rate_sum = heart_rate_sum + values(heart_rate_sum),
+                temperature_min = least(temperature_min, values(temperature_min)),
+                temperature_max = greatest(temperature_max, values(temperature_max)),
+                temperature_sum = temperature_sum + values(temperature_sum),
+                humidity_min = least(humidity_min, values(humidity_min)),
+                humidity_max = greatest(humidity_max, values(humidity_max)),
+                humidity_sum = humidity_sum + values(humidity_sum),
+                wearable_battery_min = least(wearable_battery_min, values(wearable_battery_min)),
+                wearable_battery_max = greatest(wearable_battery_max, values(wearable_battery_max)),
+                wearable_battery_sum = wearable_battery_sum + values(wearable_battery_sum),
+                camera_fall_count = camera_fall_count + values(camera_fall_count),
+                wearable_fall_count = wearable_fall_count + values(wearable_fall_count),
+                updated_at = values(updated_at)
+            """;
+
+    // %1$s 는 RollupResolution 이름 (MINUTE/HOUR/DAY) 으로만 채운다. 새 행의 키는 UuidV7Generator 와 같은 UUIDv7
+    // 배치 (48비트 밀리초 시각, 버전 7, variant 10, 나머지 무작위) 로 DB 에서 만든다. MariaDB 의 uuid() 는 v1 이라 시각이
+    // 하위 필드부터 놓여 인덱스 곳곳에 흩어진다. 같은 문장의 행은 모두 같은 시각 접두사를 가지므로 인덱스 끝에 모인다
+    private static final String BACKFILL_SQL =
+            """
+            insert into senior_sensor_rollup (uuid, senior_uuid, resolution, bucket_start,
+                sample_count, heart_rate_min, heart_rate_max, heart_rate_sum,
+                temperature_min, temperature_max, temperature_sum,
+                humidity_min, humidity_max, humidity_sum,
+                wearable_battery_min, wearable_battery_max, wearable_battery_sum,
+                camera_fall_count, wearable_fall_count, updated_at)
+            select unhex(concat(
+                    lpad(hex(cast(unix_timestamp(now(3)) * 1000 as unsigned)), 12, '0'),
+                    '7', substr(md5(uuid()), 1, 3),
+                    hex(8 + floor(rand() * 4)), substr(md5(uuid()), 1, 15))),
+                b.senior_uuid, '%1$s', b.bucket_start,
+                count(*), min(b.heart_rate), max(b.heart_rate), sum(b.heart_rate),
+                min(b.temperature), max(b.temperature), sum(b.temperature),
+                min(b.humidity), max(b.humidity), sum(b.humidity),
+                min(b.wearable_battery), max(b.wearable_battery), sum(b.wearable_battery),
+                sum(case when b.camera_fall_detected then 1 else 0 end),
+                sum(case when b.wearable_fall_detected then 1 else 0 end), now(6)
+            from (
+                select s.*,
+                    timestampadd(%1$s, timestampdiff(%1$s, '2000-01-01', s.timestamp),
+                        '2000-01-01') as bucket_start
+                from senior_sensor_stat s
+                where s.timestamp >= :from and s.timestamp < :to
+            ) b
+            group by b.senior_uuid, b.bucket_start
+            on duplicate key update
+                sample_count = values(sample_count),
+                heart_rate_min = values(heart_rate_min),
+                heart_rate_max = values(heart_rate_max),
+                heart_rate_sum = values(heart_rate_sum),
+                temperature_min = values(temperature_min),
+                temperature_max = values(temperature_max),
+                temperature_sum = values(temperature_sum),
+                humidity_min = values(humidity_min),
+                humidity_max = values(humidity_max),
+                humidity_sum = values(humidity_sum),
+                wearable_battery_min = values(wearable_battery_min),
+                wearable_battery_max = values(wearable_battery_max),
+                wearable_battery_sum = values(wearable_battery_sum),
+                camera_fall_count = values(camera_fall_count),
+                wearable_fall_count = values(wearable_fall_count),
+                updated_at = values(updated_at)
+            """;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${sensor.rollup.backfill-days:2}")
+    private int backfillDays;
+
+    // 동시에 실행되는 accumulate 끼리 같은 롤업 행을 다른 순서로 잠가 교착되지 않도록 항상 이 순서로 upsert 한다
+    private static final Comparator<BucketKey> UPSERT_ORDER =
+            Comparator.comparing(BucketKey::seniorUuid)
+                    .thenComparing(key -> key.resolution().name())
+                    .thenComparing(BucketKey::start);
+
+    private record BucketKey(String seniorUuid, RollupResolution resolution, LocalDateTime start) {}
+
+    private static final class Bucket {
+        private long sampleCount;
+        private int heartRateMin = Integer.MAX_VALUE;
+        private int heartRateMax = Integer.MIN_VALUE;
+        private long heartRateSum;
+        private double temperatureMin = Double.POSITIVE_INFINITY;
+        private double temperatureMax = Double.NEGATIVE_INFINITY;
+        private double temperatureSum;
+        private double humidityMin = Double.POSITIVE_INFINITY;
+        private double humidityMax = Double.NEGATIVE_INFINITY;
+        private double humiditySum;
+        private double wearableBatteryMin = Double.POSITIVE_INFINITY;
+        private double wearableBatteryMax = Double.NEGATIVE_INFINITY;
+        private double wearableBatterySum;
+        private long cameraFallCount;
+        private long wearableFallCount;
+
+        private void add(SeniorSensorStat stat) {
+            sampleCount++;
+            heartRateMin = Math.min(heartRateMin, stat.getHeartRate());
+            heartRateMax = Math.max(heartRateMax, stat.getHeartRate());
+            heartRateSum += stat.getHeartRate();
+            temperatureMin = Math.min(temperatureMin, stat.getTemperature());
+            temperatureMax = Math.max(temperatureMax, stat.getTemperature());
+            temperatureSum += stat.getTemperature();
+            humidityMin = Math.min(humidityMin, stat.getHumidity());
+            humidityMax = Math.max(humidityMax, stat.getHumidity());
+            humiditySum += stat.getHumidity();
+            wearableBatteryMin = Math.min(wearableBatteryMin, stat.getWearableBattery());
+            wearableBatteryMax = Math.max(wearableBatteryMax, stat.getWearableBattery());
+            wearableBatterySum += stat.getWearableBattery();
+            cameraFallCount += Boolean.TRUE.equals(stat.getCameraFallDetected()) ? 1 : 0;
+            wearableFallCount += Boolean.TRUE.equals(stat.getWearableFallDetected()) ? 1 : 0;
+        }
+    }
+
+    /** 호출자의 트랜잭션 안에서 측정값을 버킷별로 모아 롤업에 더합니다. */
+    @Transactional
+    public void accumulate(List<SeniorSensorStat> stats) {
+        Map<BucketKey, Bucket> buckets = new TreeMap<>(UPSERT_ORDER);
+        for (SeniorSensorStat stat : stats) {
+            String seniorUuid = stat.getSenior().getUuid();
+            for (RollupResolution resolution : RollupResolution.values()) {
+                BucketKey key =
+                        new BucketKey(
+                                seniorUuid, resolution, resolution.truncate(stat.getTimestamp()));
+                buckets.computeIfAbsent(key, k -> new Bucket()).add(stat);
+            }
+        }
+        buckets.forEach(this::upsert);
+    }
+
+    /** [from, to) 에 걸친 날짜들의 롤업을 원본 측정값에서 다시 계산합니다. 날짜별로 트랜잭션을 나눕니다. */
+    public void backfill(LocalDate from, LocalDate to) {
+        for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+            LocalDateTime start = day.atStartOfDay();
+            LocalDateTime end = start.plusDays(1);
+            Integer rows =
+                    transactionTemplate.execute(
+                            status -> {
+                                int updated = 0;
+                                for (RollupResolution resolution : RollupResolution.values()) {
+                                    updated +=
+                                            entityManager
+                                                    .createNativeQuery(
+                                                            BACKFILL_SQL.formatted(
+                                                                    resolution.name()))
+                                                    .setParameter("from", start)
+                                                    .setParameter("to", end)
+                                                    .executeUpdate();
+                                }
+                                return updated;
+                            });
+            log.debug("Backfilled sensor rollups for {} ({} rows)", day, rows);
+        }
+    }
+
+    /** 최근 며칠을 다시 집계하여, 증분 갱신이 놓친 측정값 (실패 후 재시도 등) 을 보정합니다. */
+    @Scheduled(cron = "${sensor.rollup.backfill-cron:0 15 0 * * *}")
+    public void backfillRecentDays() {
+        LocalDate today = LocalDate.now();
+        try {
+            backfill(today.minusDays(backfillDays), today);
+        } catch (Exception e) {
+            log.warn("Failed to backfill sensor rollups: {}", e.getMessage());
+        }
+    }
+
+    private void upsert(BucketKey key, Bucket bucket) {
+        entityManager
+                .createNativeQuery(UPSERT_SQL)
+                .setParameter("uuid", BinaryUuidType.toBytes(UuidV7Generator.next()))
+                .setParameter("seniorUuid", BinaryUuidType.toBytes(key.seniorUuid()))
+                .setParameter("resolution", key.resolution().name())
+                .setParameter("bucketStart", key.start())
+                .setParameter("sampleCount", bucket.sampleCount)
+                .setParameter("heartRateMin", bucket.heartRateMin)
+                .setParameter("heartRateMax", bucket.heartRateMax)
+                .setParameter("heartRateSum", bucket.heartRateSum)
+                .setParameter("temperatureMin", bucket.temperatureMin)
+                .setParameter("temperatureMax", bucket.temperatureMax)
+                .setParameter("temperatureSum", bucket.temperatureSum)
+                .setParameter("humidityMin", bucket.humidityMin)
+                .setParameter("humidityMax", bucket.humidityMax)
+                .setParameter("humiditySum", bucket.humiditySum)
+                .setParameter("wearableBatteryMin", bucket.wearableBatteryMin)
+                .setParameter("wearableBatteryMax", bucket.wearableBatteryMax)
+                .setParameter("wearableBatterySum", bucket.wearableBatterySum)
+                .setParameter("cameraFallCount", bucket.cameraFallCount)
+                .setParameter("wearableFallCount", bucket.wearableFallCount)
+                .executeUpdate();
+    }
+}
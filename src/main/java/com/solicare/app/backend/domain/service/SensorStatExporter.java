@@ -0,0 +1,123 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.domain.dto.care.SensorStatExportRow;
+import com.solicare.app.backend.domain.enums.StatExportFormat;
+import com.solicare.app.backend.domain.repository.SeniorSensorStatRepository;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 센서 기록을 NDJSON/CSV 로 내보냅니다. 전방 전용 커서로 읽은 행을 바로 출력 스트림에 쓰므로 기록이 아무리 많아도 메모리 사용량이
+ * 일정합니다. 스트림을 소비하는 동안 트랜잭션(커넥션)을 유지합니다.
+ */
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class SensorStatExporter {
+    private static final DateTimeFormatter ISO_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final String CSV_HEADER =
+            "uuid,timestamp,cameraFallDetected,wearableFallDetected,temperature,humidity,heartRate,"
+                    + "wearableBattery";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final SeniorSensorStatRepository seniorSensorStatRepository;
+
+    /** [from, to) 의 기록을 시각순으로 내보내고, 내보낸 행 수를 반환합니다. */
+    @Transactional(readOnly = true)
+    public long export(
+            String seniorUuid,
+            LocalDateTime from,
+            LocalDateTime to,
+            StatExportFormat format,
+            boolean gzip,
+            OutputStream out)
+            throws IOException {
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+        Writer writer =
+                new BufferedWriter(
+                        new OutputStreamWriter(
+                                compressed != null ? compressed : out, StandardCharsets.UTF_8),
+                        BUFFER_SIZE);
+        long rows = 0;
+        try (Stream<SensorStatExportRow> stream =
+                seniorSensorStatRepository.streamForExport(seniorUuid, from, to)) {
+            StringBuilder line = new StringBuilder(256);
+            if (format == StatExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            Iterator<SensorStatExportRow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                SensorStatExportRow row = iterator.next();
+                line.setLength(0);
+                if (format == StatExportFormat.CSV) {
+                    appendCsv(line, row);
+                } else {
+                    appendJson(line, row);
+                }
+                writer.append(line).write('\n');
+                rows++;
+            }
+        }
+        // 응답 스트림은 컨테이너가 닫으므로 버퍼만 비운다
+        writer.flush();
+        if (compressed != null) {
+            compressed.finish();
+        }
+        return rows;
+    }
+
+    private static void appendCsv(StringBuilder line, SensorStatExportRow row) {
+        line.append(row.uuid())
+                .append(',')
+                .append(row.timestamp().format(ISO_FORMAT))
+                .append(',')
+                .append(row.cameraFallDetected())
+                .append(',')
+                .append(row.wearableFallDetected())
+                .append(',')
+                .append(row.temperature())
+                .append(',')
+                .append(row.humidity())
+                .append(',')
+                .append(row.heartRate())
+                .append(',')
+                .append(row.wearableBattery());
+    }
+
+    // 모든 필드가 숫자, 불리언, UUID, ISO 시각이므로 이스케이프가 필요 없다
+    private static void appendJson(StringBuilder line, SensorStatExportRow row) {
+        line.append("{\"uuid\":\"")
+                .append(row.uuid())
+                .append("\",\"timestamp\":\"")
+                .append(row.timestamp().format(ISO_FORMAT))
+                .append("\",\"cameraFallDetected\":")
+                .append(row.cameraFallDetected())
+                .append(",\"wearableFallDetected\":")
+                .append(row.wearableFallDetected())
+                .append(",\"temperature\":")
+                .append(row.temperature())
+                .append(",\"humidity\":")
+                .append(row.humidity())
+                .append(",\"heartRate\":")
+                .append(row.heartRate())
+                .append(",\"wearableBattery\":")
+                .append(row.wearableBattery())
+                .append('}');
+    }
+}
@@ -0,0 +1,77 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.application.dto.request.CareRequestDTO.PostSensorStat;
+import com.solicare.app.backend.application.mapper.CareMapper;
+import com.solicare.app.backend.domain.entity.Senior;
+import com.solicare.app.backend.domain.entity.SeniorSensorStat;
+import com.solicare.app.backend.domain.repository.SeniorRepository;
+
+import jakarta.persistence.EntityManager;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 센서 통계를 hibernate.jdbc.batch_size 단위로 persist 후 flush/clear 하여 JDBC batch insert 로 저장합니다. 영속성
+ * 컨텍스트를 비우므로 호출자는 이후에 기존 엔티티를 다시 조회해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class SensorStatWriter {
+    private final EntityManager entityManager;
+    private final SeniorRepository seniorRepository;
+    private final CareMapper careMapper;
+    private final SensorRollupService sensorRollupService;
+    private final SeniorRecentStatCache seniorRecentStatCache;
+    private final VitalSignMonitor vitalSignMonitor;
+    private final SeniorLivenessWheel seniorLivenessWheel;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+    private int batchSize;
+
+    @Transactional
+    public int insertAll(List<SeniorSensorStat> stats) {
+        for (int i = 0; i < stats.size(); i++) {
+            entityManager.persist(stats.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        sensorRollupService.accumulate(stats);
+        seniorRecentStatCache.onStatsSaved(stats);
+        vitalSignMonitor.onStatsSaved(stats);
+        seniorLivenessWheel.onStatsSaved(stats);
+        return stats.size();
+    }
+
+    /** 여러 시니어의 측정값을 한 트랜잭션에서 저장합니다. 존재하지 않는 시니어의 측정값은 버리고, 저장한 건수를 반환합니다. */
+    @Transactional
+    public int insertAll(Map<String, List<PostSensorStat>> statsBySenior) {
+        Map<String, Senior> seniors =
+                seniorRepository.findAllById(statsBySenior.keySet()).stream()
+                        .collect(Collectors.toMap(Senior::getUuid, Function.identity()));
+        List<SeniorSensorStat> stats = new ArrayList<>();
+        statsBySenior.forEach(
+                (seniorUuid, readings) -> {
+                    Senior senior = seniors.get(seniorUuid);
+                    if (senior != null) {
+                        readings.forEach(
+                                reading -> stats.add(careMapper.toEntity(reading, senior)));
+                    }
+                });
+        return insertAll(stats);
+    }
+}
@@ -0,0 +1,190 @@
+package com.solicare.app.backend.domain.service;
+
+import com.solicare.app.backend.application.enums.SeniorEvent;
+import com.solicare.app.backend.domain.dto.care.SeniorEventDetected;
+import com.solicare.app.backend.domain.entity.SeniorSensorStat;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 저장되는 센서 측정값으로 생체 신호 이상을 감지합니다. 시니어마다 심박수/체온의 EWMA 평균과 분산만 들고 있으므로 측정값 하나당
+ * O(1) 이며 DB 를 읽지 않습니다.
+ *
+ * <ul>
+ *   <li>심박수/체온이 절대 범위를 벗어나거나, 기준선 대비 z-score 가 연속으로 임계값을 넘으면 이상으로 봅니다.
+ *   <li>웨어러블 배터리는 임계값 아래로 내려가는 순간에만 알립니다.
+ *   <li>같은 시니어의 같은 이벤트는 측정 시각 기준 cooldown 동안 한 번만 알립니다.
+ * </ul>
+ *
+ * 측정값은 저장이 커밋된 뒤에 평가합니다. 저장에 실패하여 다시 시도되는 측정값이 기준선과 cooldown 에 두 번 반영되지 않도록
+ * 하기 위해서입니다. 감지한 이벤트는 {@link SeniorEventDetected} 로 발행되고 {@link SeniorEventAlertListener} 가 알림으로
+ * 등록합니다.
+ */
+@Slf4j
+@Component
+public class VitalSignMonitor {
+    private final Map<String, SeniorVitals> seniors = new ConcurrentHashMap<>();
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final boolean enabled;
+    private final double alpha;
+    private final int warmupSamples;
+    private final double zThreshold;
+    private final int consecutiveAnomalies;
+    private final long cooldownSeconds;
+    private final int heartRateMin;
+    private final int heartRateMax;
+    private final double temperatureMin;
+    private final double temperatureMax;
+    private final double wearableBatteryLow;
+
+    public VitalSignMonitor(
+            ApplicationEventPublisher eventPublisher,
+            @Value("${vitals.enabled:true}") boolean enabled,
+            @Value("${vitals.ewma-alpha:0.05}") double alpha,
+            @Value("${vitals.warmup-samples:30}") int warmupSamples,
+            @Value("${vitals.z-threshold:4.0}") double zThreshold,
+            @Value("${vitals.consecutive-anomalies:3}") int consecutiveAnomalies,
+            @Value("${vitals.alert-cooldown-minutes:10}") long cooldownMinutes,
+            @Value("${vitals.heart-rate.min:40}") int heartRateMin,
+            @Value("${vitals.heart-rate.max:130}") int heartRateMax,
+            @Value("${vitals.temperature.min:35.0}") double temperatureMin,
+            @Value("${vitals.temperature.max:38.0}") double temperatureMax,
+            @Value("${vitals.wearable-battery.low:15}") double wearableBatteryLow) {
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.alpha = alpha;
+        this.warmupSamples = warmupSamples;
+        this.zThreshold = zThreshold;
+        this.consecutiveAnomalies = consecutiveAnomalies;
+        this.cooldownSeconds = cooldownMinutes * 60;
+        this.heartRateMin = heartRateMin;
+        this.heartRateMax = heartRateMax;
+        this.temperatureMin = temperatureMin;
+        this.temperatureMax = temperatureMax;
+        this.wearableBatteryLow = wearableBatteryLow;
+    }
+
+    /** 저장 트랜잭션이 커밋된 뒤에 측정값을 평가합니다. 트랜잭션 밖이면 바로 평가합니다. */
+    public void onStatsSaved(List<SeniorSensorStat> stats) {
+        if (!enabled || stats.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evaluate(stats);
+            return;
+        }
+        List<SeniorSensorStat> saved = List.copyOf(stats);
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    // 여기서 발행한 이벤트는 같은 트랜잭션의 afterCompletion 에서 리스너로 전달된다
+                    @Override
+                    public void afterCommit() {
+                        evaluate(saved);
+                    }
+                });
+    }
+
+    private void evaluate(List<SeniorSensorStat> stats) {
+        for (SeniorSensorStat stat : stats) {
+            String seniorUuid = stat.getSenior().getUuid();
+            SeniorEvent event =
+                    seniors.computeIfAbsent(seniorUuid, k -> new SeniorVitals()).evaluate(stat);
+            if (event != null) {
+                log.info("Detected {} for senior {} at {}", event, seniorUuid, stat.getTimestamp());
+                eventPublisher.publishEvent(
+                        new SeniorEventDetected(seniorUuid, event, stat.getTimestamp()));
+            }
+        }
+    }
+
+    /** EWMA 평균/분산. z-score 는 이번 측정값을 반영하기 전의 기준선으로 계산합니다. */
+    private static final class Ewma {
+        private final double minStdDev;
+        private double mean;
+        private double variance;
+        private long count;
+        private int anomalies;
+
+        private Ewma(double minStdDev) {
+            this.minStdDev = minStdDev;
+        }
+
+        private double zScore(double value) {
+            double stdDev = Math.max(Math.sqrt(variance), minStdDev);
+            return (value - mean) / stdDev;
+        }
+
+        private void update(double value, double alpha) {
+            if (count++ == 0) {
+                mean = value;
+                return;
+            }
+            double diff = value - mean;
+            double increment = alpha * diff;
+            mean += increment;
+            variance = (1 - alpha) * (variance + diff * increment);
+        }
+    }
+
+    private final class SeniorVitals {
+        private final Ewma heartRate = new Ewma(2.0);
+        private final Ewma temperature = new Ewma(0.1);
+        private final long[] lastAlertAt = new long[SeniorEvent.values().length];
+        private double lastWearableBattery = Double.NaN;
+
+        private synchronized SeniorEvent evaluate(SeniorSensorStat stat) {
+            long at = stat.getTimestamp().toEpochSecond(ZoneOffset.UTC);
+            boolean heartRateAbnormal =
+                    check(heartRate, stat.getHeartRate(), heartRateMin, heartRateMax);
+            boolean temperatureAbnormal =
+                    check(temperature, stat.getTemperature(), temperatureMin, temperatureMax);
+            boolean batteryLow =
+                    stat.getWearableBattery() < wearableBatteryLow
+                            && !(lastWearableBattery < wearableBatteryLow);
+            lastWearableBattery = stat.getWearableBattery();
+
+            // 한 측정값에서 여러 이상이 보이면 가장 위급한 것 하나만 알린다
+            if (heartRateAbnormal && claim(SeniorEvent.HEART_RATE_ABNORMAL, at)) {
+                return SeniorEvent.HEART_RATE_ABNORMAL;
+            }
+            if (temperatureAbnormal && claim(SeniorEvent.TEMPERATURE_ABNORMAL, at)) {
+                return SeniorEvent.TEMPERATURE_ABNORMAL;
+            }
+            if (batteryLow && claim(SeniorEvent.WEARABLE_BATTERY_LOW, at)) {
+                return SeniorEvent.WEARABLE_BATTERY_LOW;
+            }
+            return null;
+        }
+
+        private boolean check(Ewma ewma, double value, double min, double max) {
+            boolean outOfRange = value < min || value > max;
+            boolean deviates =
+                    ewma.count >= warmupSamples && Math.abs(ewma.zScore(value)) >= zThreshold;
+            ewma.anomalies = deviates ? ewma.anomalies + 1 : 0;
+            ewma.update(value, alpha);
+            return outOfRange || ewma.anomalies >= consecutiveAnomalies;
+        }
+
+        private boolean claim(SeniorEvent event, long at) {
+            long last = lastAlertAt[event.ordinal()];
+            // 늦게 도착한 측정값도 cooldown 안이면 같은 이상으로 본다
+            if (last != 0 && Math.abs(at - last) < cooldownSeconds) {
+                return false;
+            }
+            lastAlertAt[event.ordinal()] = Math.max(last, at);
+            return true;
+        }
+    }
+}
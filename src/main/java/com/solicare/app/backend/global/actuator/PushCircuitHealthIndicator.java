@@ -0,0 +1,26 @@
+package com.solicare.app.backend.global.actuator;
+
+import com.solicare.app.backend.domain.service.PushCircuitBreaker;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/** 푸시 게이트웨이 장애가 애플리케이션 전체를 DOWN 으로 만들지 않도록 상태는 UP 으로 두고 상세에만 노출합니다. */
+@Component("pushCircuit")
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class PushCircuitHealthIndicator implements HealthIndicator {
+    private final PushCircuitBreaker pushCircuitBreaker;
+
+    @Override
+    public Health health() {
+        PushCircuitBreaker.Snapshot snapshot = pushCircuitBreaker.snapshot();
+        return Health.up()
+                .withDetail("state", snapshot.state())
+                .withDetail("consecutiveFailures", snapshot.consecutiveFailures())
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.solicare.app.backend.global.actuator;
+
+import com.solicare.app.backend.application.enums.PushChannel;
+import com.solicare.app.backend.domain.service.PushCircuitBreaker;
+import com.solicare.app.backend.domain.service.PushExecutor;
+import com.solicare.app.backend.domain.service.PushLaneMetrics;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** /actuator/push : 푸시 서킷 브레이커 및 실행기 상태 */
+@Component
+@Endpoint(id = "push")
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class PushStatusEndpoint {
+    private final PushCircuitBreaker pushCircuitBreaker;
+    private final PushExecutor pushExecutor;
+    private final PushLaneMetrics pushLaneMetrics;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        PushCircuitBreaker.Snapshot snapshot = pushCircuitBreaker.snapshot();
+        Map<String, Object> circuit = new LinkedHashMap<>();
+        circuit.put("state", snapshot.state());
+        circuit.put("consecutiveFailures", snapshot.consecutiveFailures());
+        circuit.put("openUntil", snapshot.openUntil());
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("circuit", circuit);
+        status.put("executorAvailablePermits", pushExecutor.getAvailablePermits());
+        Map<String, Object> laneDepths = new LinkedHashMap<>();
+        for (PushChannel lane : PushChannel.values()) {
+            laneDepths.put(lane.name(), pushLaneMetrics.getDepth(lane));
+        }
+        status.put("laneDepths", laneDepths);
+        return status;
+    }
+}
@@ -14,12 +14,14 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
 
 @Slf4j
 @Configuration
+@ConditionalOnProperty(name = "push.gateway.fcm", havingValue = "firebase", matchIfMissing = true)
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class FirebaseConfig {
 
@@ -29,6 +31,12 @@ public class FirebaseConfig {
   @Value("${firebase.credentials.base64:}")
   private String credentialsBase64;
 
+  @Value("${firebase.connect-timeout-ms:5000}")
+  private int connectTimeoutMs;
+
+  @Value("${firebase.read-timeout-ms:10000}")
+  private int readTimeoutMs;
+
   @Bean
   public FirebaseMessaging firebaseMessaging() throws IOException {
     InputStream serviceAccount = getCredentialsInputStream();
@@ -37,6 +45,8 @@ public class FirebaseConfig {
       FirebaseOptions options =
           FirebaseOptions.builder()
               .setCredentials(GoogleCredentials.fromStream(serviceAccount))
+              .setConnectTimeout(connectTimeoutMs)
+              .setReadTimeout(readTimeoutMs)
               .build();
       if (FirebaseApp.getApps().isEmpty()) {
         FirebaseApp.initializeApp(options);
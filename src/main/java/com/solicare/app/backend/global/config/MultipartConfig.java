@@ -0,0 +1,30 @@
+package com.solicare.app.backend.global.config;
+
+import com.solicare.app.backend.domain.service.AlertImageStore;
+
+import jakarta.servlet.MultipartConfigElement;
+
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MultipartConfig {
+    /**
+     * 업로드 파트를 알림 이미지 staging 디렉터리에 받도록 하여, 이미지를 저장소로 옮길 때 복사하지 않고 이름만 바꾸게 합니다. {@code
+     * spring.servlet.multipart.location} 을 지정하면 그 값을 따릅니다.
+     */
+    @Bean
+    public MultipartConfigElement multipartConfigElement(
+            MultipartProperties multipartProperties, AlertImageStore alertImageStore) {
+        MultipartConfigElement config = multipartProperties.createMultipartConfig();
+        if (multipartProperties.getLocation() != null) {
+            return config;
+        }
+        return new MultipartConfigElement(
+                alertImageStore.getStagingDirectory().toString(),
+                config.getMaxFileSize(),
+                config.getMaxRequestSize(),
+                config.getFileSizeThreshold());
+    }
+}
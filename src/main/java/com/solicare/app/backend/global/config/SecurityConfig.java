@@ -59,7 +59,14 @@ public class SecurityConfig {
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(
                         auth ->
+                                // 푸시 lane 적체, 서킷 상태, outbox 건수와 메트릭은 관리자만 본다
                                 auth.requestMatchers(
+                                                "/actuator/push",
+                                                "/actuator/push/**",
+                                                "/actuator/metrics",
+                                                "/actuator/metrics/**")
+                                        .hasRole("ADMIN")
+                                        .requestMatchers(
                                                 HttpMethod.GET,
                                                 "/",
                                                 "/favicon.ico",
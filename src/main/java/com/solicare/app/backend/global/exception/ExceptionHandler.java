@@ -17,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -84,6 +85,12 @@ public class ExceptionHandler {
         return apiResponseFactory.onError(ApiStatus._BAD_REQUEST, List.of(e.getMessage()));
     }
 
+    @org.springframework.web.bind.annotation.ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleMaxUploadSizeExceeded(
+            MaxUploadSizeExceededException e) {
+        return apiResponseFactory.onError(ApiStatus._PAYLOAD_TOO_LARGE, List.of(e.getMessage()));
+    }
+
     @org.springframework.web.bind.annotation.ExceptionHandler(
             org.springframework.web.servlet.NoHandlerFoundException.class)
     public ResponseEntity<ApiResponse<Void>> handleNoHandlerFoundException(
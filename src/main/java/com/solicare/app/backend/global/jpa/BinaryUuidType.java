@@ -0,0 +1,106 @@
+package com.solicare.app.backend.global.jpa;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 애플리케이션에서는 기존처럼 36자 UUID 문자열로 다루고, DB 에는 BINARY(16) 으로 저장합니다. 컬럼에는 {@code length = 16} 을
+ * 함께 지정합니다. 바이트 순서가 문자열 순서와 같으므로 정렬/키셋 조건의 의미는 바뀌지 않습니다.
+ */
+public class BinaryUuidType implements UserType<String> {
+    private static final byte[] NO_MATCH = new byte[0];
+
+    /** UUID 형식이 아닌 값은 어떤 키와도 일치하지 않는 빈 값으로 바꿔, 잘못된 경로 변수가 조회 결과 없음으로 처리되게 합니다. */
+    public static byte[] toBytes(String uuid) {
+        try {
+            return toBytes(UUID.fromString(uuid));
+        } catch (IllegalArgumentException e) {
+            return NO_MATCH;
+        }
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static String fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+    @Override
+    public int getSqlType() {
+        return Types.BINARY;
+    }
+
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+
+    @Override
+    public boolean equals(String x, String y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(String x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public String nullSafeGet(
+            ResultSet rs, int position, SharedSessionContractImplementor session, Object owner)
+            throws SQLException {
+        byte[] bytes = rs.getBytes(position);
+        return bytes == null ? null : fromBytes(bytes);
+    }
+
+    @Override
+    public void nullSafeSet(
+            PreparedStatement st, String value, int index, SharedSessionContractImplementor session)
+            throws SQLException {
+        if (value == null) {
+            st.setNull(index, Types.BINARY);
+        } else {
+            st.setBytes(index, toBytes(value));
+        }
+    }
+
+    @Override
+    public String deepCopy(String value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(String value) {
+        return value;
+    }
+
+    @Override
+    public String assemble(Serializable cached, Object owner) {
+        return (String) cached;
+    }
+
+    @Override
+    public String replace(String detached, String managed, Object owner) {
+        return detached;
+    }
+}
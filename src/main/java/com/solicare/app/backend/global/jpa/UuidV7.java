@@ -0,0 +1,14 @@
+package com.solicare.app.backend.global.jpa;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** 시각 순으로 증가하는 UUIDv7 식별자를 생성합니다. {@link BinaryUuidType} 과 함께 BINARY(16) 키로 사용합니다. */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7 {}
@@ -14,6 +14,7 @@ public enum ApiStatus {
      * ================================== */
     _OK(HttpStatus.OK, "COMMON200", "요청이 성공적으로 처리되었습니다."),
     _CREATED(HttpStatus.CREATED, "COMMON201", "요청을 성공적으로 처리했으며, 리소스가 생성되었습니다."),
+    _ACCEPTED(HttpStatus.ACCEPTED, "COMMON202", "요청이 접수되었으며, 곧 처리됩니다."),
 
     /* ==================================
      * Error Status (4xx, 5xx)
@@ -25,6 +26,8 @@ public enum ApiStatus {
     _METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "COMMON405", "허용되지 않은 요청 메서드입니다."),
     _NOT_FOUND(HttpStatus.NOT_FOUND, "COMMON404", "리소스를 찾을 수 없습니다."),
     _CONFLICT(HttpStatus.CONFLICT, "COMMON409", "리소스의 현재 상태와 충돌이 발생했습니다."),
+    _PAYLOAD_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "COMMON413", "요청 본문이 너무 큽니다."),
+    _TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "COMMON429", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
     _INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON500", "서버 에러, 관리자에게 문의 바랍니다."),
     _NOT_IMPLEMENTED(HttpStatus.NOT_IMPLEMENTED, "COMMON501", "지원하지 않는 기능입니다.");
 
@@ -0,0 +1,68 @@
+-- 무작위 (v4 와 같은 분포) BINARY(16) 키와 UUIDv7 (시각 순) BINARY(16) 키의 insert 처리량 비교 (MariaDB).
+-- 운영 DB 가 아니라 같은 사양의 스테이징 DB 에서 실행한다. 행을 만드는 데 Sequence 엔진 (seq_1_to_N) 을 쓴다.
+-- 차이는 인덱스가 버퍼 풀보다 커질 때 벌어지므로, @batches 를 늘려 가며 rows_per_second 와 테이블 크기를 비교한다.
+-- 키 외의 컬럼은 senior_sensor_stat 과 비슷한 크기로 맞춘다.
+
+-- batch 당 10000 행
+set @batches = 100;
+
+drop table if exists bench_uuid_random;
+drop table if exists bench_uuid_v7;
+create table bench_uuid_random (
+    uuid binary(16) not null primary key,
+    senior_uuid binary(16) not null,
+    timestamp datetime(6) not null,
+    heart_rate int not null,
+    temperature double not null,
+    humidity double not null,
+    wearable_battery double not null,
+    key idx_bench_senior_timestamp (senior_uuid, timestamp)
+) engine = InnoDB;
+create table bench_uuid_v7 like bench_uuid_random;
+
+delimiter //
+-- 애플리케이션처럼 batch 단위로 커밋한다. v7 키는 batch 마다 1ms 씩 앞선 시각에 rand_a 12비트 카운터를 붙인다
+create procedure bench_uuid_insert(in v7 boolean)
+begin
+    declare batch int default 0;
+    declare base_millis bigint default cast(unix_timestamp(now(3)) * 1000 as unsigned);
+    while batch < @batches do
+        start transaction;
+        if v7 then
+            insert into bench_uuid_v7
+            select unhex(concat(
+                    lpad(hex(base_millis + batch * 3 + (seq - 1) div 4096), 12, '0'),
+                    '7', lpad(hex((seq - 1) mod 4096), 3, '0'),
+                    hex(8 + floor(rand() * 4)), substr(md5(uuid()), 1, 15))),
+                unhex(md5(seq mod 1000)), now(6), 70, 36.5, 40.0, 80.0
+            from seq_1_to_10000;
+        else
+            insert into bench_uuid_random
+            select unhex(md5(uuid())), unhex(md5(seq mod 1000)), now(6), 70, 36.5, 40.0, 80.0
+            from seq_1_to_10000;
+        end if;
+        commit;
+        set batch = batch + 1;
+    end while;
+end //
+delimiter ;
+
+set @started = now(6);
+call bench_uuid_insert(false);
+set @random_micros = timestampdiff(microsecond, @started, now(6));
+
+set @started = now(6);
+call bench_uuid_insert(true);
+set @v7_micros = timestampdiff(microsecond, @started, now(6));
+
+analyze table bench_uuid_random, bench_uuid_v7;
+select 'random' as key_type, @batches * 10000 * 1000000 / @random_micros as rows_per_second
+union all
+select 'v7', @batches * 10000 * 1000000 / @v7_micros;
+select table_name, table_rows, data_length, index_length
+from information_schema.tables
+where table_schema = database() and table_name in ('bench_uuid_random', 'bench_uuid_v7');
+
+drop procedure bench_uuid_insert;
+drop table bench_uuid_random;
+drop table bench_uuid_v7;
@@ -0,0 +1,90 @@
+-- 기존 CHAR(36) UUID 키를 BINARY(16) 으로 옮기는 스크립트 (MariaDB).
+-- ddl-auto=update 는 컬럼 타입을 바꾸지 않으므로, 새 버전을 배포하기 전에 점검 시간에 한 번 실행한다. 실행 전에 백업한다.
+-- 기존 키 값은 그대로 유지되고 (v4 는 무작위 순서 그대로), 이후 생성되는 키부터 UUIDv7 로 시각 순서가 된다.
+
+-- 실행 전후 테이블/인덱스 크기 비교용
+select table_name, table_rows, data_length, index_length
+from information_schema.tables
+where table_schema = database()
+order by table_name;
+
+set foreign_key_checks = 0;
+
+-- 1. 문자열 바이트를 그대로 보존하는 이진 타입으로 바꾼다
+alter table member modify uuid varbinary(36) not null;
+alter table senior modify uuid varbinary(36) not null;
+alter table device
+    modify uuid varbinary(36) not null,
+    modify member_uuid varbinary(36) null,
+    modify senior_uuid varbinary(36) null;
+alter table care
+    modify uuid varbinary(36) not null,
+    modify member_uuid varbinary(36) not null,
+    modify senior_uuid varbinary(36) not null;
+alter table care_alert
+    modify uuid varbinary(36) not null,
+    modify senior_uuid varbinary(36) not null;
+alter table senior_sensor_stat
+    modify uuid varbinary(36) not null,
+    modify senior_uuid varbinary(36) not null;
+alter table senior_sensor_rollup
+    modify uuid varbinary(36) not null,
+    modify senior_uuid varbinary(36) not null;
+alter table push_outbox modify uuid varbinary(36) not null;
+alter table push_topic_subscription modify uuid varbinary(36) not null;
+
+-- 2. 36자 문자열을 16바이트로 바꾼다. 이미 바뀐 값 (16바이트) 은 건너뛴다
+update member set uuid = unhex(replace(uuid, '-', '')) where length(uuid) = 36;
+update senior set uuid = unhex(replace(uuid, '-', '')) where length(uuid) = 36;
+update device
+set uuid = if(length(uuid) = 36, unhex(replace(uuid, '-', '')), uuid),
+    member_uuid = if(length(member_uuid) = 36, unhex(replace(member_uuid, '-', '')), member_uuid),
+    senior_uuid = if(length(senior_uuid) = 36, unhex(replace(senior_uuid, '-', '')), senior_uuid);
+update care
+set uuid = if(length(uuid) = 36, unhex(replace(uuid, '-', '')), uuid),
+    member_uuid = if(length(member_uuid) = 36, unhex(replace(member_uuid, '-', '')), member_uuid),
+    senior_uuid = if(length(senior_uuid) = 36, unhex(replace(senior_uuid, '-', '')), senior_uuid);
+update care_alert
+set uuid = if(length(uuid) = 36, unhex(replace(uuid, '-', '')), uuid),
+    senior_uuid = if(length(senior_uuid) = 36, unhex(replace(senior_uuid, '-', '')), senior_uuid);
+update senior_sensor_stat
+set uuid = if(length(uuid) = 36, unhex(replace(uuid, '-', '')), uuid),
+    senior_uuid = if(length(senior_uuid) = 36, unhex(replace(senior_uuid, '-', '')), senior_uuid);
+update senior_sensor_rollup
+set uuid = if(length(uuid) = 36, unhex(replace(uuid, '-', '')), uuid),
+    senior_uuid = if(length(senior_uuid) = 36, unhex(replace(senior_uuid, '-', '')), senior_uuid);
+update push_outbox set uuid = unhex(replace(uuid, '-', '')) where length(uuid) = 36;
+update push_topic_subscription set uuid = unhex(replace(uuid, '-', '')) where length(uuid) = 36;
+
+-- 3. 고정 길이 BINARY(16) 으로 바꾼다. 인덱스가 다시 만들어지면서 크기가 줄어든다
+alter table member modify uuid binary(16) not null;
+alter table senior modify uuid binary(16) not null;
+alter table device
+    modify uuid binary(16) not null,
+    modify member_uuid binary(16) null,
+    modify senior_uuid binary(16) null;
+alter table care
+    modify uuid binary(16) not null,
+    modify member_uuid binary(16) not null,
+    modify senior_uuid binary(16) not null;
+alter table care_alert
+    modify uuid binary(16) not null,
+    modify senior_uuid binary(16) not null;
+alter table senior_sensor_stat
+    modify uuid binary(16) not null,
+    modify senior_uuid binary(16) not null;
+alter table senior_sensor_rollup
+    modify uuid binary(16) not null,
+    modify senior_uuid binary(16) not null;
+alter table push_outbox modify uuid binary(16) not null;
+alter table push_topic_subscription modify uuid binary(16) not null;
+
+set foreign_key_checks = 1;
+
+analyze table member, senior, device, care, care_alert, senior_sensor_stat, senior_sensor_rollup,
+    push_outbox, push_topic_subscription;
+
+select table_name, table_rows, data_length, index_length
+from information_schema.tables
+where table_schema = database()
+order by table_name;
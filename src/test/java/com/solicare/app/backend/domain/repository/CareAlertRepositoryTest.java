@@ -0,0 +1,131 @@
+package com.solicare.app.backend.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.solicare.app.backend.application.enums.MonitorMode;
+import com.solicare.app.backend.application.enums.SeniorEvent;
+import com.solicare.app.backend.domain.dto.care.CareAlertBriefRow;
+import com.solicare.app.backend.domain.entity.CareAlert;
+import com.solicare.app.backend.domain.entity.Senior;
+import com.solicare.app.backend.domain.enums.Gender;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/** 알림 목록 조회가 이미지 관련 컬럼을 조회하지 않는지 실제로 실행된 SQL 로 확인합니다. */
+@DataJpaTest
+class CareAlertRepositoryTest {
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 9, 20, 12, 0);
+
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private CareAlertRepository careAlertRepository;
+    @Autowired private SqlCapture sqlCapture;
+
+    private Senior senior;
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer(SqlCapture sqlCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+
+    static class SqlCapture implements StatementInspector {
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        senior =
+                entityManager.persist(
+                        Senior.builder()
+                                .userId("senior01")
+                                .password("password")
+                                .name("홍길동")
+                                .age(80)
+                                .gender(Gender.MALE)
+                                .phoneNumber("010-0000-0000")
+                                .address("서울")
+                                .note("")
+                                .build());
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(
+                    CareAlert.builder()
+                            .senior(senior)
+                            .timestamp(BASE_TIME.plusMinutes(i))
+                            .eventType(SeniorEvent.FALL_DETECTED)
+                            .monitorMode(MonitorMode.FULL_MONITORING)
+                            .imageHash("0".repeat(64))
+                            .imageContentType("image/png")
+                            .mediumImageHash("1".repeat(64))
+                            .thumbnailImageHash("2".repeat(64))
+                            .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        sqlCapture.statements.clear();
+    }
+
+    @Test
+    void recentAlertBriefsDoNotSelectImageColumns() {
+        List<CareAlertBriefRow> rows =
+                careAlertRepository.findTop5BySenior_UuidAndIsDismissedIsFalseOrderByTimestampDesc(
+                        senior.getUuid());
+
+        assertThat(rows)
+                .hasSize(3)
+                .extracting(CareAlertBriefRow::timestamp)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(rows.getFirst().eventType()).isEqualTo(SeniorEvent.FALL_DETECTED);
+        assertBriefSqlOnly();
+    }
+
+    @Test
+    void pagedAlertBriefsDoNotSelectImageColumns() {
+        Page<CareAlertBriefRow> all =
+                careAlertRepository.findAllBySenior_Uuid(senior.getUuid(), PageRequest.of(0, 2));
+        Page<CareAlertBriefRow> active =
+                careAlertRepository.findBySenior_UuidAndIsDismissedIsFalse(
+                        senior.getUuid(), PageRequest.of(1, 2));
+
+        assertThat(all.getContent()).hasSize(2);
+        assertThat(all.getTotalElements()).isEqualTo(3);
+        assertThat(active.getContent()).hasSize(1);
+        assertBriefSqlOnly();
+    }
+
+    private void assertBriefSqlOnly() {
+        assertThat(sqlCapture.statements)
+                .isNotEmpty()
+                .allSatisfy(
+                        sql -> assertThat(sql.toLowerCase(Locale.ROOT)).doesNotContain("image"));
+    }
+}